@@ -8,7 +8,6 @@ import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 @Embeddable
 @Getter
@@ -16,8 +15,6 @@ import java.util.regex.Pattern;
 public class DNI implements Serializable {
 
     private static final long serialVersionUID = 1L;
-    private static final Pattern DNI_PATTERN = Pattern.compile("^[0-9]{8}[A-Z]$");
-    private static final String LETRAS_CONTROL = "TRWAGMYFPDXBNJZSQVHLCKE";
 
     @Column(name = "dni", nullable = false, length = 9, unique = true)
     private String valor;
@@ -31,30 +28,21 @@ public class DNI implements Serializable {
             throw new IllegalArgumentException("El DNI no puede estar vacío");
         }
         
-        String dniNormalizado = valor.toUpperCase().trim().replace(" ", "");
+        String dniNormalizado = ValidadorDocumento.normalizar(valor);
         
-        if (!DNI_PATTERN.matcher(dniNormalizado).matches()) {
+        if (!ValidadorDocumento.esDni(dniNormalizado)) {
             throw new IllegalArgumentException("Formato de DNI inválido: " + valor);
         }
         
-        if (!validarLetraControl(dniNormalizado)) {
+        if (!ValidadorDocumento.letraDniValida(dniNormalizado)) {
             throw new IllegalArgumentException("Letra de control incorrecta: " + valor);
         }
         
         return new DNI(dniNormalizado);
     }
 
-    private static boolean validarLetraControl(String dni) {
-        String numeroStr = dni.substring(0, 8);
-        char letraProporcionada = dni.charAt(8);
-        int numero = Integer.parseInt(numeroStr);
-        int resto = numero % 23;
-        char letraEsperada = LETRAS_CONTROL.charAt(resto);
-        return letraProporcionada == letraEsperada;
-    }
-
     public static char calcularLetra(int numero) {
-        return LETRAS_CONTROL.charAt(numero % 23);
+        return ValidadorDocumento.calcularLetra(numero);
     }
 
     public String getNumero() {
@@ -0,0 +1,22 @@
+package com.mutualidad.afiliado.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Resultado de una fila del registro masivo. {@code fila} empieza en 1 y sigue el orden de entrada.
+ */
+@Data
+@Builder
+public class ResultadoRegistroDTO {
+
+    public enum Resultado { REGISTRADO, DUPLICADO, INVALIDO }
+
+    private long fila;
+    private Resultado resultado;
+    private String tipoDocumento;
+    private String numeroDocumento;
+    private String afiliadoId;
+    private String estado;
+    private String mensaje;
+}
@@ -2,17 +2,33 @@ package com.mutualidad.afiliado.application.port.input;
 
 import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
 import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
 
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface AfiliadoUseCase {
 
     AfiliadoDTO registrarAfiliado(RegistrarAfiliadoCommand command);
 
+    /**
+     * Registra los afiliados por lotes segun se consume el resultado, con un resultado por fila
+     * en el orden de entrada. Las filas invalidas o duplicadas no detienen la carga.
+     * Hay que cerrar el stream devuelto (cierra tambien el de entrada).
+     */
+    Stream<ResultadoRegistroDTO> registrarAfiliados(Stream<RegistrarAfiliadoCommand> commands);
+
     Optional<AfiliadoDTO> consultarPorDocumento(String tipoDocumento, String numeroDocumento);
 
     Optional<AfiliadoDTO> consultarPorId(String afiliadoId);
 
+    /**
+     * Entrega al destino, uno a uno y ordenados por id, los afiliados de la empresa
+     * (de un estado concreto si {@code estado} no es null). No se acumulan en memoria.
+     */
+    void exportarPorEmpresa(String codigoEmpresa, String estado, Consumer<AfiliadoDTO> destino);
+
     void darDeBaja(String afiliadoId, String motivo);
 
     void reactivar(String afiliadoId);
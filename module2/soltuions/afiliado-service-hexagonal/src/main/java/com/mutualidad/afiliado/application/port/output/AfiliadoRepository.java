@@ -2,18 +2,52 @@ package com.mutualidad.afiliado.application.port.output;
 
 import com.mutualidad.afiliado.domain.model.Afiliado;
 import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface AfiliadoRepository {
 
     Afiliado save(Afiliado afiliado);
 
+    /**
+     * Inserta un afiliado nuevo en una sola escritura apoyada en la unicidad del documento.
+     *
+     * @throws com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException
+     *         si ya existe un afiliado con el mismo documento
+     */
+    Afiliado insertIfAbsent(Afiliado afiliado);
+
+    /**
+     * Inserta varios afiliados nuevos de una vez dentro de la transaccion en curso.
+     *
+     * @throws com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException
+     *         si alguno ya existe; la transaccion debe deshacerse
+     */
+    void insertAll(List<Afiliado> afiliados);
+
     Optional<Afiliado> findById(String id);
 
     Optional<Afiliado> findByDocumento(Documento documento);
 
     boolean existsByDocumento(Documento documento);
 
+    /**
+     * Los documentos de la coleccion que ya tienen afiliado, en una sola consulta.
+     */
+    Set<Documento> findDocumentosExistentes(Collection<Documento> documentos);
+
+    /**
+     * Recorre los afiliados de una empresa, opcionalmente de un solo estado, sin cargarlos todos
+     * en memoria. Debe consumirse dentro de una transaccion y cerrarse al terminar.
+     *
+     * @param estado {@code null} para todos los estados
+     */
+    Stream<Afiliado> streamByEmpresa(String codigoEmpresa, EstadoAfiliado estado);
+
     void deleteById(String id);
 }
@@ -1,10 +1,14 @@
 package com.mutualidad.afiliado.application.port.output;
 
+/**
+ * Avisos al afiliado. Las implementaciones pueden entregarlos de forma asincrona: dentro de una
+ * transaccion solo deben salir si se confirma.
+ */
 public interface NotificacionPort {
 
-    void enviarBienvenida(String email, String nombre);
+    void enviarBienvenida(String afiliadoId, String email, String nombre);
 
-    void notificarBaja(String email, String nombre, String motivo);
+    void notificarBaja(String afiliadoId, String email, String nombre, String motivo);
 
-    void notificarReactivacion(String email, String nombre);
+    void notificarReactivacion(String afiliadoId, String email, String nombre);
 }
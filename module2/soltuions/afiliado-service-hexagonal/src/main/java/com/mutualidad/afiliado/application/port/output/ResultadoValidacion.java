@@ -0,0 +1,9 @@
+package com.mutualidad.afiliado.application.port.output;
+
+import lombok.Value;
+
+@Value
+public class ResultadoValidacion {
+    boolean documentoValido;
+    boolean estadoLaboralActivo;
+}
@@ -0,0 +1,10 @@
+package com.mutualidad.afiliado.application.port.output;
+
+import com.mutualidad.afiliado.domain.model.Documento;
+import lombok.Value;
+
+@Value
+public class SolicitudValidacion {
+    Documento documento;
+    String codigoEmpresa;
+}
@@ -2,9 +2,29 @@ package com.mutualidad.afiliado.application.port.output;
 
 import com.mutualidad.afiliado.domain.model.Documento;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface ValidacionExternaPort {
 
     boolean validarDocumento(Documento documento);
 
     boolean verificarEstadoLaboral(String codigoEmpresa, String numeroDocumento);
+
+    /**
+     * Variante asincrona de {@link #validarDocumento(Documento)}: permite lanzar varias
+     * validaciones a la vez y esperar solo a la mas lenta.
+     */
+    CompletableFuture<Boolean> validarDocumentoAsync(Documento documento);
+
+    /**
+     * Variante asincrona de {@link #verificarEstadoLaboral(String, String)}.
+     */
+    CompletableFuture<Boolean> verificarEstadoLaboralAsync(String codigoEmpresa, String numeroDocumento);
+
+    /**
+     * Valida documento y estado laboral de un lote completo, con un numero acotado de peticiones
+     * en vuelo. Los resultados van en el mismo orden que las solicitudes.
+     */
+    List<ResultadoValidacion> validarLote(List<SolicitudValidacion> solicitudes);
 }
@@ -2,6 +2,7 @@ package com.mutualidad.afiliado.application.service;
 
 import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
 import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
 import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
 import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
 import com.mutualidad.afiliado.application.port.output.EventPublisherPort;
@@ -12,17 +13,21 @@ import com.mutualidad.afiliado.domain.event.AfiliadoDadoDeBajaEvent;
 import com.mutualidad.afiliado.domain.event.AfiliadoReactivadoEvent;
 import com.mutualidad.afiliado.domain.event.AfiliadoRegistradoEvent;
 import com.mutualidad.afiliado.domain.exception.AfiliadoNoEncontradoException;
-import com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException;
 import com.mutualidad.afiliado.domain.exception.DocumentoInvalidoException;
 import com.mutualidad.afiliado.domain.model.Afiliado;
 import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
 import com.mutualidad.afiliado.domain.model.TipoDocumento;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +40,7 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
     private final EventPublisherPort eventPublisher;
     private final NotificacionPort notificacionPort;
     private final AfiliadoMapper mapper;
+    private final RegistroMasivoService registroMasivo;
 
     @Override
     public AfiliadoDTO registrarAfiliado(RegistrarAfiliadoCommand command) {
@@ -45,18 +51,18 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
             command.getNumeroDocumento()
         );
 
-        if (afiliadoRepository.existsByDocumento(documento)) {
-            throw new AfiliadoYaExisteException(command.getNumeroDocumento());
-        }
+        // Las dos validaciones externas son independientes: se lanzan a la vez
+        CompletableFuture<Boolean> documentoValido = validacionExterna.validarDocumentoAsync(documento);
+        CompletableFuture<Boolean> estadoLaboral = validacionExterna.verificarEstadoLaboralAsync(
+            command.getCodigoEmpresa(),
+            command.getNumeroDocumento()
+        );
 
-        if (!validacionExterna.validarDocumento(documento)) {
+        if (!documentoValido.join()) {
             throw new DocumentoInvalidoException(command.getNumeroDocumento());
         }
 
-        boolean estadoLaboralActivo = validacionExterna.verificarEstadoLaboral(
-            command.getCodigoEmpresa(),
-            command.getNumeroDocumento()
-        );
+        boolean estadoLaboralActivo = estadoLaboral.join();
 
         Afiliado afiliado = Afiliado.crear(
             documento,
@@ -76,7 +82,8 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
             afiliado.activar();
         }
 
-        Afiliado afiliadoGuardado = afiliadoRepository.save(afiliado);
+        // La unicidad del documento la garantiza el indice: una sola escritura, sin consulta previa
+        Afiliado afiliadoGuardado = afiliadoRepository.insertIfAbsent(afiliado);
 
         eventPublisher.publish(new AfiliadoRegistradoEvent(
             afiliadoGuardado.getId(),
@@ -89,6 +96,7 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
         if (estadoLaboralActivo) {
             eventPublisher.publish(new AfiliadoActivadoEvent(afiliadoGuardado.getId()));
             notificacionPort.enviarBienvenida(
+                afiliadoGuardado.getId(),
                 afiliadoGuardado.getEmail(),
                 afiliadoGuardado.getNombreCompleto()
             );
@@ -98,6 +106,13 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
         return mapper.toDTO(afiliadoGuardado);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<ResultadoRegistroDTO> registrarAfiliados(Stream<RegistrarAfiliadoCommand> commands) {
+        // Cada lote abre su propia transaccion mientras se consume el resultado
+        return registroMasivo.registrar(commands);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<AfiliadoDTO> consultarPorDocumento(String tipoDocumento, String numeroDocumento) {
@@ -120,6 +135,16 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
             .map(mapper::toDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarPorEmpresa(String codigoEmpresa, String estado, Consumer<AfiliadoDTO> destino) {
+        log.info("Exportando afiliados de la empresa: {} (estado: {})", codigoEmpresa, estado);
+        EstadoAfiliado filtro = estado != null ? EstadoAfiliado.valueOf(estado) : null;
+        try (Stream<Afiliado> afiliados = afiliadoRepository.streamByEmpresa(codigoEmpresa, filtro)) {
+            afiliados.map(mapper::toDTO).forEach(destino);
+        }
+    }
+
     @Override
     public void darDeBaja(String afiliadoId, String motivo) {
         log.info("Dando de baja afiliado: {} por motivo: {}", afiliadoId, motivo);
@@ -132,6 +157,7 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
 
         eventPublisher.publish(new AfiliadoDadoDeBajaEvent(afiliadoId, motivo));
         notificacionPort.notificarBaja(
+            afiliadoId,
             afiliado.getEmail(),
             afiliado.getNombreCompleto(),
             motivo
@@ -163,6 +189,7 @@ public class AfiliadoApplicationService implements AfiliadoUseCase {
 
         eventPublisher.publish(new AfiliadoReactivadoEvent(afiliadoId));
         notificacionPort.notificarReactivacion(
+            afiliadoId,
             afiliado.getEmail(),
             afiliado.getNombreCompleto()
         );
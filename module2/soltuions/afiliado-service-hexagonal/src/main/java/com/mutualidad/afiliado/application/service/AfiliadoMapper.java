@@ -2,26 +2,18 @@ package com.mutualidad.afiliado.application.service;
 
 import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
 import com.mutualidad.afiliado.domain.model.Afiliado;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
 
-@Component
-public class AfiliadoMapper {
+/**
+ * Implementacion generada por MapStruct al compilar: llamadas directas a getters y al builder,
+ * sin reflexion. {@code nombreCompleto} sale de {@link Afiliado#getNombreCompleto()}.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface AfiliadoMapper {
 
-    public AfiliadoDTO toDTO(Afiliado afiliado) {
-        return AfiliadoDTO.builder()
-            .id(afiliado.getId())
-            .tipoDocumento(afiliado.getDocumento().getTipo().name())
-            .numeroDocumento(afiliado.getDocumento().getNumero())
-            .nombreCompleto(afiliado.getNombreCompleto())
-            .fechaNacimiento(afiliado.getFechaNacimiento())
-            .email(afiliado.getEmail())
-            .telefono(afiliado.getTelefono())
-            .direccion(afiliado.getDireccion())
-            .estado(afiliado.getEstado().name())
-            .fechaAlta(afiliado.getFechaAlta())
-            .fechaBaja(afiliado.getFechaBaja())
-            .motivoBaja(afiliado.getMotivoBaja())
-            .codigoEmpresa(afiliado.getCodigoEmpresa())
-            .build();
-    }
+    @Mapping(target = "tipoDocumento", source = "documento.tipo")
+    @Mapping(target = "numeroDocumento", source = "documento.numero")
+    AfiliadoDTO toDTO(Afiliado afiliado);
 }
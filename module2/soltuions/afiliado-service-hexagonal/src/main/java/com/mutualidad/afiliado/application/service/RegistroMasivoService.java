@@ -0,0 +1,269 @@
+package com.mutualidad.afiliado.application.service;
+
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO.Resultado;
+import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
+import com.mutualidad.afiliado.application.port.output.EventPublisherPort;
+import com.mutualidad.afiliado.application.port.output.NotificacionPort;
+import com.mutualidad.afiliado.application.port.output.ResultadoValidacion;
+import com.mutualidad.afiliado.application.port.output.SolicitudValidacion;
+import com.mutualidad.afiliado.application.port.output.ValidacionExternaPort;
+import com.mutualidad.afiliado.domain.event.AfiliadoActivadoEvent;
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+import com.mutualidad.afiliado.domain.event.AfiliadoRegistradoEvent;
+import com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException;
+import com.mutualidad.afiliado.domain.exception.DocumentoInvalidoException;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Registro masivo de afiliados por lotes de {@code afiliado.registro-masivo.tamano-lote}.
+ * <p>
+ * Por cada lote: validacion de dominio fila a fila, documentos repetidos dentro del lote, una
+ * consulta para los que ya existen, validacion externa del lote completo y, en una transaccion,
+ * insercion en bloque y publicacion de los eventos. Si otra peticion registra el mismo documento
+ * entre la consulta y la insercion, el lote se repite fila a fila para aislar el duplicado.
+ * Cada lote se confirma por separado: un fallo no deshace los anteriores.
+ */
+@Service
+@Slf4j
+public class RegistroMasivoService {
+
+    private final AfiliadoRepository afiliadoRepository;
+    private final ValidacionExternaPort validacionExterna;
+    private final EventPublisherPort eventPublisher;
+    private final NotificacionPort notificacionPort;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+
+    public RegistroMasivoService(AfiliadoRepository afiliadoRepository,
+                                 ValidacionExternaPort validacionExterna,
+                                 EventPublisherPort eventPublisher,
+                                 NotificacionPort notificacionPort,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${afiliado.registro-masivo.tamano-lote:500}") int tamanoLote) {
+        this.afiliadoRepository = afiliadoRepository;
+        this.validacionExterna = validacionExterna;
+        this.eventPublisher = eventPublisher;
+        this.notificacionPort = notificacionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+    }
+
+    /**
+     * Los lotes se procesan a medida que se consume el resultado, asi que la entrada puede
+     * leerse en streaming y no se retiene mas de un lote en memoria.
+     */
+    public Stream<ResultadoRegistroDTO> registrar(Stream<RegistrarAfiliadoCommand> commands) {
+        Iterator<RegistrarAfiliadoCommand> entrada = commands.iterator();
+        Iterator<List<ResultadoRegistroDTO>> lotes = new Iterator<>() {
+            private long filasLeidas;
+
+            @Override
+            public boolean hasNext() {
+                return entrada.hasNext();
+            }
+
+            @Override
+            public List<ResultadoRegistroDTO> next() {
+                if (!entrada.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Fila> lote = new ArrayList<>(tamanoLote);
+                while (lote.size() < tamanoLote && entrada.hasNext()) {
+                    lote.add(new Fila(++filasLeidas, entrada.next()));
+                }
+                return procesarLote(lote);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lotes, Spliterator.ORDERED), false)
+            .flatMap(List::stream)
+            .onClose(commands::close);
+    }
+
+    private List<ResultadoRegistroDTO> procesarLote(List<Fila> lote) {
+        List<Fila> pendientes = crearAfiliados(lote);
+        pendientes = descartarExistentes(pendientes);
+        pendientes = validarExternamente(pendientes);
+        insertar(pendientes);
+
+        for (Fila fila : pendientes) {
+            if (fila.resultado == Resultado.REGISTRADO && fila.afiliado.estaActivo()) {
+                notificacionPort.enviarBienvenida(
+                    fila.afiliado.getId(), fila.afiliado.getEmail(), fila.afiliado.getNombreCompleto());
+            }
+        }
+        log.info("Lote de registro masivo: filas {}-{}, {} registradas",
+            lote.get(0).numero, lote.get(lote.size() - 1).numero,
+            pendientes.stream().filter(f -> f.resultado == Resultado.REGISTRADO).count());
+        return lote.stream().map(Fila::toDTO).collect(Collectors.toList());
+    }
+
+    private List<Fila> crearAfiliados(List<Fila> lote) {
+        Set<Documento> vistos = new HashSet<>();
+        List<Fila> validas = new ArrayList<>(lote.size());
+        for (Fila fila : lote) {
+            RegistrarAfiliadoCommand command = fila.command;
+            try {
+                Documento documento = new Documento(
+                    command.getTipoDocumento() != null ? TipoDocumento.valueOf(command.getTipoDocumento()) : null,
+                    command.getNumeroDocumento());
+                fila.afiliado = Afiliado.crear(
+                    documento,
+                    command.getNombre(),
+                    command.getPrimerApellido(),
+                    command.getSegundoApellido(),
+                    command.getFechaNacimiento(),
+                    command.getEmail(),
+                    command.getTelefono(),
+                    command.getDireccion(),
+                    command.getCodigoPostal(),
+                    command.getProvincia(),
+                    command.getCodigoEmpresa());
+            } catch (IllegalArgumentException e) {
+                fila.resultado(Resultado.INVALIDO, e.getMessage());
+                continue;
+            }
+            if (!vistos.add(fila.afiliado.getDocumento())) {
+                fila.resultado(Resultado.DUPLICADO, "Documento repetido en la carga");
+                continue;
+            }
+            validas.add(fila);
+        }
+        return validas;
+    }
+
+    private List<Fila> descartarExistentes(List<Fila> filas) {
+        Set<Documento> existentes = afiliadoRepository.findDocumentosExistentes(
+            filas.stream().map(f -> f.afiliado.getDocumento()).collect(Collectors.toList()));
+        if (existentes.isEmpty()) {
+            return filas;
+        }
+        List<Fila> nuevas = new ArrayList<>(filas.size());
+        for (Fila fila : filas) {
+            Documento documento = fila.afiliado.getDocumento();
+            if (existentes.contains(documento)) {
+                fila.resultado(Resultado.DUPLICADO, new AfiliadoYaExisteException(documento.getNumero()).getMessage());
+            } else {
+                nuevas.add(fila);
+            }
+        }
+        return nuevas;
+    }
+
+    private List<Fila> validarExternamente(List<Fila> filas) {
+        if (filas.isEmpty()) {
+            return filas;
+        }
+        List<ResultadoValidacion> validaciones = validacionExterna.validarLote(filas.stream()
+            .map(f -> new SolicitudValidacion(f.afiliado.getDocumento(), f.afiliado.getCodigoEmpresa()))
+            .collect(Collectors.toList()));
+        List<Fila> validas = new ArrayList<>(filas.size());
+        for (int i = 0; i < filas.size(); i++) {
+            Fila fila = filas.get(i);
+            ResultadoValidacion validacion = validaciones.get(i);
+            if (!validacion.isDocumentoValido()) {
+                fila.resultado(Resultado.INVALIDO,
+                    new DocumentoInvalidoException(fila.afiliado.getDocumento().getNumero()).getMessage());
+                continue;
+            }
+            if (validacion.isEstadoLaboralActivo()) {
+                fila.afiliado.activar();
+            }
+            validas.add(fila);
+        }
+        return validas;
+    }
+
+    private void insertar(List<Fila> filas) {
+        if (filas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                afiliadoRepository.insertAll(filas.stream().map(f -> f.afiliado).collect(Collectors.toList()));
+                List<AfiliadoEvent> eventos = new ArrayList<>(filas.size() * 2);
+                filas.forEach(f -> eventos.addAll(eventos(f.afiliado)));
+                eventPublisher.publishAll(eventos);
+            });
+            filas.forEach(f -> f.resultado(Resultado.REGISTRADO, null));
+        } catch (AfiliadoYaExisteException e) {
+            log.warn("Documento registrado en paralelo durante el lote, se inserta fila a fila");
+            filas.forEach(this::insertarFila);
+        }
+    }
+
+    private void insertarFila(Fila fila) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                afiliadoRepository.insertIfAbsent(fila.afiliado);
+                eventPublisher.publishAll(eventos(fila.afiliado));
+            });
+            fila.resultado(Resultado.REGISTRADO, null);
+        } catch (AfiliadoYaExisteException e) {
+            fila.resultado(Resultado.DUPLICADO, e.getMessage());
+        }
+    }
+
+    private static List<AfiliadoEvent> eventos(Afiliado afiliado) {
+        AfiliadoRegistradoEvent registrado = new AfiliadoRegistradoEvent(
+            afiliado.getId(),
+            afiliado.getDocumento().getTipo().name(),
+            afiliado.getDocumento().getNumero(),
+            afiliado.getNombreCompleto(),
+            afiliado.getCodigoEmpresa());
+        return afiliado.estaActivo()
+            ? List.of(registrado, new AfiliadoActivadoEvent(afiliado.getId()))
+            : List.of(registrado);
+    }
+
+    private static class Fila {
+
+        private final long numero;
+        private final RegistrarAfiliadoCommand command;
+        private Afiliado afiliado;
+        private Resultado resultado;
+        private String mensaje;
+
+        Fila(long numero, RegistrarAfiliadoCommand command) {
+            this.numero = numero;
+            this.command = command;
+        }
+
+        void resultado(Resultado resultado, String mensaje) {
+            this.resultado = resultado;
+            this.mensaje = mensaje;
+        }
+
+        ResultadoRegistroDTO toDTO() {
+            return ResultadoRegistroDTO.builder()
+                .fila(numero)
+                .resultado(resultado)
+                .tipoDocumento(command.getTipoDocumento())
+                .numeroDocumento(command.getNumeroDocumento())
+                .afiliadoId(resultado == Resultado.REGISTRADO ? afiliado.getId() : null)
+                .estado(resultado == Resultado.REGISTRADO ? afiliado.getEstado().name() : null)
+                .mensaje(mensaje)
+                .build();
+        }
+    }
+}
@@ -66,6 +66,9 @@ public class Afiliado {
         );
     }
 
+    /**
+     * Reconstruye un afiliado ya persistido. No valida: los datos se validaron al crearlo.
+     */
     public static Afiliado reconstitute(
             String id,
             Documento documento,
@@ -4,33 +4,32 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.regex.Pattern;
-
 @Getter
 @EqualsAndHashCode
 @ToString
 public class Documento {
 
-    private static final Pattern DNI_PATTERN = Pattern.compile("^[0-9]{8}[A-Z]$");
-    private static final Pattern NIE_PATTERN = Pattern.compile("^[XYZ][0-9]{7}[A-Z]$");
-    private static final Pattern PASAPORTE_PATTERN = Pattern.compile("^[A-Z]{2}[0-9]{6}$");
-
     private final TipoDocumento tipo;
     private final String numero;
 
     public Documento(TipoDocumento tipo, String numero) {
-        if (tipo == null) {
-            throw new IllegalArgumentException("El tipo de documento es obligatorio");
-        }
-        if (numero == null || numero.trim().isEmpty()) {
-            throw new IllegalArgumentException("El numero de documento es obligatorio");
-        }
+        this(tipo, numero, true);
+    }
 
-        String numeroNormalizado = numero.toUpperCase().trim();
-        validarFormato(tipo, numeroNormalizado);
+    private Documento(TipoDocumento tipo, String numero, boolean validar) {
+        if (validar) {
+            if (tipo == null) {
+                throw new IllegalArgumentException("El tipo de documento es obligatorio");
+            }
+            if (numero == null || numero.trim().isEmpty()) {
+                throw new IllegalArgumentException("El numero de documento es obligatorio");
+            }
+            numero = ValidadorDocumento.normalizar(numero);
+            validarFormato(tipo, numero);
+        }
 
         this.tipo = tipo;
-        this.numero = numeroNormalizado;
+        this.numero = numero;
     }
 
     public static Documento of(String tipo, String numero) {
@@ -38,14 +37,16 @@ public class Documento {
         return new Documento(tipoDocumento, numero);
     }
 
-    private void validarFormato(TipoDocumento tipo, String numero) {
-        boolean valido = switch (tipo) {
-            case DNI -> DNI_PATTERN.matcher(numero).matches();
-            case NIE -> NIE_PATTERN.matcher(numero).matches();
-            case PASAPORTE -> PASAPORTE_PATTERN.matcher(numero).matches();
-        };
+    /**
+     * Reconstruye un documento que ya se valido y normalizo al crearse, sin repetir la validacion.
+     * Solo para datos leidos de la persistencia.
+     */
+    public static Documento reconstitute(TipoDocumento tipo, String numero) {
+        return new Documento(tipo, numero, false);
+    }
 
-        if (!valido) {
+    private void validarFormato(TipoDocumento tipo, String numero) {
+        if (!ValidadorDocumento.formatoValido(tipo, numero)) {
             throw new IllegalArgumentException(
                 String.format("Formato invalido para %s: %s", tipo, numero)
             );
@@ -53,15 +54,13 @@ public class Documento {
     }
 
     public boolean validarLetraDNI() {
-        if (tipo != TipoDocumento.DNI) {
-            return true;
-        }
-
-        String letras = "TRWAGMYFPDXBNJZSQVHLCKE";
-        int numeroParte = Integer.parseInt(numero.substring(0, 8));
-        char letraCalculada = letras.charAt(numeroParte % 23);
-        char letraDocumento = numero.charAt(8);
+        return tipo != TipoDocumento.DNI || ValidadorDocumento.letraControlValida(tipo, numero);
+    }
 
-        return letraCalculada == letraDocumento;
+    /**
+     * Letra de control de DNI y NIE. El pasaporte no tiene, asi que siempre es valido.
+     */
+    public boolean validarLetraControl() {
+        return ValidadorDocumento.letraControlValida(tipo, numero);
     }
 }
@@ -0,0 +1,119 @@
+package com.mutualidad.afiliado.domain.model;
+
+/**
+ * Validacion de numeros de documento recorriendo los caracteres, sin expresiones regulares,
+ * {@code substring} ni {@code Integer.parseInt}: no reserva memoria.
+ * <p>
+ * Equivale exactamente a las expresiones {@code ^[0-9]{8}[A-Z]$} (DNI), {@code ^[XYZ][0-9]{7}[A-Z]$}
+ * (NIE) y {@code ^[A-Z]{2}[0-9]{6}$} (pasaporte). Los metodos esperan el numero ya normalizado
+ * con {@link #normalizar(String)}.
+ */
+public final class ValidadorDocumento {
+
+    private static final String LETRAS_CONTROL = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    private ValidadorDocumento() {
+    }
+
+    /**
+     * Igual que {@code numero.toUpperCase().trim()}, pero devuelve la misma instancia sin
+     * recorrerla dos veces cuando ya esta en mayusculas ASCII y sin espacios en los extremos.
+     */
+    public static String normalizar(String numero) {
+        int longitud = numero.length();
+        if (longitud > 0 && numero.charAt(0) > ' ' && numero.charAt(longitud - 1) > ' ') {
+            boolean normalizado = true;
+            for (int i = 0; i < longitud && normalizado; i++) {
+                char c = numero.charAt(i);
+                normalizado = c < 0x80 && (c < 'a' || c > 'z');
+            }
+            if (normalizado) {
+                return numero;
+            }
+        }
+        return numero.toUpperCase().trim();
+    }
+
+    public static boolean formatoValido(TipoDocumento tipo, CharSequence numero) {
+        return switch (tipo) {
+            case DNI -> esDni(numero);
+            case NIE -> esNie(numero);
+            case PASAPORTE -> esPasaporte(numero);
+        };
+    }
+
+    /**
+     * Comprueba la letra de control de DNI y NIE; el pasaporte no tiene. Supone el formato ya validado.
+     */
+    public static boolean letraControlValida(TipoDocumento tipo, CharSequence numero) {
+        return switch (tipo) {
+            case DNI -> letraDniValida(numero);
+            case NIE -> letraNieValida(numero);
+            case PASAPORTE -> true;
+        };
+    }
+
+    public static boolean letraDniValida(CharSequence dni) {
+        return dni.charAt(8) == calcularLetra(digitos(dni, 0, 8));
+    }
+
+    /**
+     * El prefijo X, Y o Z cuenta como 0, 1 o 2 delante de los siete digitos.
+     */
+    public static boolean letraNieValida(CharSequence nie) {
+        return nie.charAt(8) == calcularLetra(prefijoNie(nie.charAt(0)) * 10_000_000 + digitos(nie, 1, 8));
+    }
+
+    public static char calcularLetra(int numero) {
+        return LETRAS_CONTROL.charAt(numero % 23);
+    }
+
+    public static boolean esDni(CharSequence numero) {
+        return numero.length() == 9 && sonDigitos(numero, 0, 8) && esLetra(numero.charAt(8));
+    }
+
+    public static boolean esNie(CharSequence numero) {
+        return numero.length() == 9
+            && prefijoNie(numero.charAt(0)) >= 0
+            && sonDigitos(numero, 1, 8)
+            && esLetra(numero.charAt(8));
+    }
+
+    public static boolean esPasaporte(CharSequence numero) {
+        return numero.length() == 8
+            && esLetra(numero.charAt(0))
+            && esLetra(numero.charAt(1))
+            && sonDigitos(numero, 2, 8);
+    }
+
+    private static int prefijoNie(char c) {
+        return switch (c) {
+            case 'X' -> 0;
+            case 'Y' -> 1;
+            case 'Z' -> 2;
+            default -> -1;
+        };
+    }
+
+    private static boolean sonDigitos(CharSequence numero, int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            char c = numero.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esLetra(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static int digitos(CharSequence numero, int desde, int hasta) {
+        int valor = 0;
+        for (int i = desde; i < hasta; i++) {
+            valor = valor * 10 + (numero.charAt(i) - '0');
+        }
+        return valor;
+    }
+}
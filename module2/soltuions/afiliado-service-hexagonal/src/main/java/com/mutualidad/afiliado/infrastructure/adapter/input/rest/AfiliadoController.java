@@ -1,21 +1,34 @@
 package com.mutualidad.afiliado.infrastructure.adapter.input.rest;
 
 import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
 import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/afiliados")
 @RequiredArgsConstructor
 public class AfiliadoController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final AfiliadoUseCase afiliadoUseCase;
+    private final CargaAfiliadosParser cargaParser;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<AfiliadoDTO> registrar(
@@ -29,6 +42,16 @@ public class AfiliadoController {
             .body(resultado);
     }
 
+    @PostMapping(path = "/lote", consumes = "text/csv", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> registrarLoteCsv(InputStream cuerpo) {
+        return registrarLote(cargaParser.csv(cuerpo));
+    }
+
+    @PostMapping(path = "/lote", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> registrarLoteNdjson(InputStream cuerpo) {
+        return registrarLote(cargaParser.ndjson(cuerpo));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AfiliadoDTO> consultarPorId(@PathVariable String id) {
         return afiliadoUseCase.consultarPorId(id)
@@ -45,6 +68,30 @@ public class AfiliadoController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Exporta en NDJSON los afiliados de una empresa. Se escriben segun se leen de la base de
+     * datos, asi que la memoria no crece con el numero de afiliados.
+     */
+    @GetMapping(path = "/empresa/{codigoEmpresa}", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportarPorEmpresa(
+            @PathVariable String codigoEmpresa,
+            @RequestParam(required = false) String estado) {
+        if (estado != null) {
+            // Un estado desconocido debe dar 400 antes de empezar a escribir la respuesta
+            EstadoAfiliado.valueOf(estado);
+        }
+        StreamingResponseBody cuerpo = salida ->
+            afiliadoUseCase.exportarPorEmpresa(codigoEmpresa, estado, afiliado -> {
+                try {
+                    salida.write(objectMapper.writeValueAsBytes(afiliado));
+                    salida.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        return ResponseEntity.ok(cuerpo);
+    }
+
     @PostMapping("/{id}/baja")
     public ResponseEntity<Void> darDeBaja(
             @PathVariable String id,
@@ -68,6 +115,23 @@ public class AfiliadoController {
         return ResponseEntity.ok(actualizado);
     }
 
+    /**
+     * La carga se lee y se registra mientras se escribe la respuesta: una linea NDJSON por fila.
+     */
+    private ResponseEntity<StreamingResponseBody> registrarLote(Stream<RegistrarAfiliadoRequest> requests) {
+        StreamingResponseBody cuerpo = salida -> {
+            try (Stream<ResultadoRegistroDTO> resultados =
+                     afiliadoUseCase.registrarAfiliados(requests.map(this::mapToCommand))) {
+                Iterator<ResultadoRegistroDTO> it = resultados.iterator();
+                while (it.hasNext()) {
+                    salida.write(objectMapper.writeValueAsBytes(it.next()));
+                    salida.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok(cuerpo);
+    }
+
     private RegistrarAfiliadoCommand mapToCommand(RegistrarAfiliadoRequest request) {
         return RegistrarAfiliadoCommand.builder()
             .tipoDocumento(request.getTipoDocumento())
@@ -0,0 +1,141 @@
+package com.mutualidad.afiliado.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Lee una carga de afiliados linea a linea, sin cargarla entera en memoria.
+ * <ul>
+ *   <li>NDJSON: un {@link RegistrarAfiliadoRequest} en JSON por linea</li>
+ *   <li>CSV: cabecera con los nombres de campo de {@link RegistrarAfiliadoRequest} (en cualquier
+ *       orden) y una fila por afiliado; admite campos entre comillas dobles y fechas ISO</li>
+ * </ul>
+ * Una linea que no se puede leer se entrega vacia para que el registro la marque como invalida
+ * sin detener la carga.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CargaAfiliadosParser {
+
+    private final ObjectMapper objectMapper;
+
+    public Stream<RegistrarAfiliadoRequest> ndjson(InputStream entrada) {
+        BufferedReader reader = reader(entrada);
+        return reader.lines()
+            .filter(linea -> !linea.isBlank())
+            .map(this::leerJson)
+            .onClose(() -> cerrar(reader));
+    }
+
+    public Stream<RegistrarAfiliadoRequest> csv(InputStream entrada) {
+        BufferedReader reader = reader(entrada);
+        String[] cabecera;
+        try {
+            String primera = reader.readLine();
+            cabecera = primera != null ? separar(primera).toArray(String[]::new) : new String[0];
+        } catch (IOException e) {
+            cerrar(reader);
+            throw new UncheckedIOException(e);
+        }
+        return reader.lines()
+            .filter(linea -> !linea.isBlank())
+            .map(linea -> leerCsv(cabecera, linea))
+            .onClose(() -> cerrar(reader));
+    }
+
+    private RegistrarAfiliadoRequest leerJson(String linea) {
+        try {
+            return objectMapper.readValue(linea, RegistrarAfiliadoRequest.class);
+        } catch (IOException e) {
+            log.warn("Linea NDJSON no valida: {}", e.getOriginalMessage());
+            return new RegistrarAfiliadoRequest();
+        }
+    }
+
+    private RegistrarAfiliadoRequest leerCsv(String[] cabecera, String linea) {
+        List<String> campos = separar(linea);
+        RegistrarAfiliadoRequest request = new RegistrarAfiliadoRequest();
+        for (int i = 0; i < cabecera.length && i < campos.size(); i++) {
+            String valor = campos.get(i).isEmpty() ? null : campos.get(i);
+            switch (cabecera[i].trim()) {
+                case "tipoDocumento" -> request.setTipoDocumento(valor);
+                case "numeroDocumento" -> request.setNumeroDocumento(valor);
+                case "nombre" -> request.setNombre(valor);
+                case "primerApellido" -> request.setPrimerApellido(valor);
+                case "segundoApellido" -> request.setSegundoApellido(valor);
+                case "fechaNacimiento" -> request.setFechaNacimiento(fecha(valor));
+                case "email" -> request.setEmail(valor);
+                case "telefono" -> request.setTelefono(valor);
+                case "direccion" -> request.setDireccion(valor);
+                case "codigoPostal" -> request.setCodigoPostal(valor);
+                case "provincia" -> request.setProvincia(valor);
+                case "codigoEmpresa" -> request.setCodigoEmpresa(valor);
+                default -> { }
+            }
+        }
+        return request;
+    }
+
+    private static LocalDate fecha(String valor) {
+        try {
+            return valor != null ? LocalDate.parse(valor) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static List<String> separar(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private static BufferedReader reader(InputStream entrada) {
+        return new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+    }
+
+    private static void cerrar(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("Error cerrando la carga: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.event;
+
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+
+import java.util.List;
+
+/**
+ * Destino al que el {@link RelayEventPublisher} reenvia los eventos, por lotes y en orden.
+ */
+public interface EventSink {
+
+    /**
+     * Envia el lote completo. Si lanza excepcion el relay reintenta el lote entero.
+     */
+    void enviar(List<AfiliadoEvent> lote) throws Exception;
+}
@@ -3,13 +3,19 @@ package com.mutualidad.afiliado.infrastructure.adapter.output.event;
 import com.mutualidad.afiliado.application.port.output.EventPublisherPort;
 import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Guarda en memoria todo lo publicado, sin limite. Solo para pruebas y desarrollo
+ * ({@code eventos.publisher=memoria}); en produccion se usa {@link RelayEventPublisher}.
+ */
 @Component
+@ConditionalOnProperty(name = "eventos.publisher", havingValue = "memoria")
 @Slf4j
 public class InMemoryEventPublisher implements EventPublisherPort {
 
@@ -0,0 +1,50 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.event;
+
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envia cada lote a Kafka con clave {@code afiliadoId}, de modo que los eventos de un afiliado
+ * caen en la misma particion y conservan el orden. Se envian todos los del lote y despues se
+ * esperan las confirmaciones, asi el productor los agrupa en pocas peticiones al broker.
+ */
+@Component
+@ConditionalOnProperty(name = "eventos.kafka.enabled", havingValue = "true")
+@Slf4j
+public class KafkaEventSink implements EventSink {
+
+    private final KafkaTemplate<String, AfiliadoEvent> kafkaTemplate;
+    private final String topic;
+    private final long timeoutMs;
+
+    public KafkaEventSink(KafkaTemplate<String, AfiliadoEvent> kafkaTemplate,
+                          @Value("${app.kafka.topic.afiliado-eventos:afiliado-eventos}") String topic,
+                          @Value("${eventos.kafka.timeout-ms:5000}") long timeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void enviar(List<AfiliadoEvent> lote) throws Exception {
+        List<ListenableFuture<?>> envios = new ArrayList<>(lote.size());
+        for (AfiliadoEvent event : lote) {
+            envios.add(kafkaTemplate.send(topic, event.getAfiliadoId(), event));
+        }
+        kafkaTemplate.flush();
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (ListenableFuture<?> envio : envios) {
+            envio.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        log.debug("Lote de {} eventos enviado a {}", lote.size(), topic);
+    }
+}
@@ -0,0 +1,24 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.event;
+
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino por defecto cuando Kafka no esta habilitado: solo registra los eventos.
+ */
+@Component
+@ConditionalOnProperty(name = "eventos.kafka.enabled", havingValue = "false", matchIfMissing = true)
+@Slf4j
+public class LogEventSink implements EventSink {
+
+    @Override
+    public void enviar(List<AfiliadoEvent> lote) {
+        for (AfiliadoEvent event : lote) {
+            log.info("Publicando evento: {} para afiliado: {}", event.getTipoEvento(), event.getAfiliadoId());
+        }
+    }
+}
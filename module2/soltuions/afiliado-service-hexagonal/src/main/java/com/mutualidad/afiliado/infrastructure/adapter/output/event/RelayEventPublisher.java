@@ -0,0 +1,228 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.event;
+
+import com.mutualidad.afiliado.application.port.output.EventPublisherPort;
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jctools.queues.MpscArrayQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publicador de produccion: los eventos se dejan en un buffer circular acotado y sin locks
+ * (varios productores, un consumidor) y un unico hilo relay los reenvia por lotes al {@link EventSink}.
+ * <p>
+ * Dentro de una transaccion los eventos se encolan tras el commit; si se deshace no se publica nada.
+ * El orden de encolado se conserva hasta el sink. Con el buffer lleno se espera hasta
+ * {@code espera-maxima-ms} a que el relay libere sitio ({@code ESPERAR}) o se descarta en el
+ * acto ({@code DESCARTAR}); en ambos casos lo descartado queda en la metrica y en el log.
+ * Un lote que falla se reintenta entero, asi que la entrega es al menos una vez mientras
+ * no se agoten los reintentos.
+ */
+@Component
+@ConditionalOnProperty(name = "eventos.publisher", havingValue = "relay", matchIfMissing = true)
+@Slf4j
+public class RelayEventPublisher implements EventPublisherPort, SmartLifecycle {
+
+    public enum SiLlena { ESPERAR, DESCARTAR }
+
+    private static final long PAUSA_ESPERA_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final EventSink sink;
+    private final MpscArrayQueue<AfiliadoEvent> buffer;
+    private final int tamanoLote;
+    private final SiLlena siLlena;
+    private final long esperaMaximaNanos;
+    private final int reintentos;
+    private final long pausaReintentoMs;
+    private final long sondeoNanos;
+
+    private final Counter descartados;
+    private final Counter esperas;
+    private final Counter enviados;
+    private final Counter fallidos;
+    private final Timer envioLote;
+
+    private volatile boolean running;
+    private volatile Thread relay;
+
+    public RelayEventPublisher(EventSink sink,
+                               MeterRegistry meterRegistry,
+                               @Value("${eventos.relay.capacidad:8192}") int capacidad,
+                               @Value("${eventos.relay.tamano-lote:256}") int tamanoLote,
+                               @Value("${eventos.relay.si-llena:ESPERAR}") SiLlena siLlena,
+                               @Value("${eventos.relay.espera-maxima-ms:100}") long esperaMaximaMs,
+                               @Value("${eventos.relay.reintentos:3}") int reintentos,
+                               @Value("${eventos.relay.pausa-reintento-ms:200}") long pausaReintentoMs,
+                               @Value("${eventos.relay.sondeo-ms:100}") long sondeoMs) {
+        this.sink = sink;
+        this.buffer = new MpscArrayQueue<>(capacidad);
+        this.tamanoLote = tamanoLote;
+        this.siLlena = siLlena;
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        this.reintentos = reintentos;
+        this.pausaReintentoMs = pausaReintentoMs;
+        this.sondeoNanos = TimeUnit.MILLISECONDS.toNanos(sondeoMs);
+
+        Gauge.builder("afiliado.events.relay.pending", buffer, MpscArrayQueue::size)
+            .description("Eventos en el buffer pendientes de enviar")
+            .register(meterRegistry);
+        this.descartados = Counter.builder("afiliado.events.relay.dropped")
+            .description("Eventos descartados por buffer lleno")
+            .register(meterRegistry);
+        this.esperas = Counter.builder("afiliado.events.relay.backpressure")
+            .description("Publicaciones que tuvieron que esperar por el buffer lleno")
+            .register(meterRegistry);
+        this.enviados = Counter.builder("afiliado.events.relay.sent")
+            .description("Eventos entregados al destino")
+            .register(meterRegistry);
+        this.fallidos = Counter.builder("afiliado.events.relay.failed")
+            .description("Eventos perdidos tras agotar los reintentos")
+            .register(meterRegistry);
+        this.envioLote = Timer.builder("afiliado.events.relay.batch")
+            .description("Tiempo de envio de cada lote")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(AfiliadoEvent event) {
+        publicar(List.of(event));
+    }
+
+    @Override
+    public void publishAll(Iterable<AfiliadoEvent> events) {
+        List<AfiliadoEvent> lote = new ArrayList<>();
+        events.forEach(lote::add);
+        if (!lote.isEmpty()) {
+            publicar(lote);
+        }
+    }
+
+    public int pendientes() {
+        return buffer.size();
+    }
+
+    private void publicar(List<AfiliadoEvent> eventos) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    encolar(eventos);
+                }
+            });
+        } else {
+            encolar(eventos);
+        }
+    }
+
+    private void encolar(List<AfiliadoEvent> eventos) {
+        for (AfiliadoEvent event : eventos) {
+            if (!buffer.offer(event) && !esperarHueco(event)) {
+                descartados.increment();
+                log.warn("Buffer de eventos lleno, se descarta {} para afiliado: {}",
+                    event.getTipoEvento(), event.getAfiliadoId());
+            }
+        }
+        // Un solo aviso al relay por llamada, aunque el lote tenga muchos eventos
+        despertar();
+    }
+
+    private boolean esperarHueco(AfiliadoEvent event) {
+        if (siLlena == SiLlena.DESCARTAR || !running) {
+            return false;
+        }
+        esperas.increment();
+        long limite = System.nanoTime() + esperaMaximaNanos;
+        do {
+            despertar();
+            LockSupport.parkNanos(PAUSA_ESPERA_NANOS);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        } while (System.nanoTime() - limite < 0);
+        return false;
+    }
+
+    private void despertar() {
+        Thread hilo = relay;
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    private void runLoop() {
+        List<AfiliadoEvent> lote = new ArrayList<>(tamanoLote);
+        while (running || !buffer.isEmpty()) {
+            buffer.drain(lote::add, tamanoLote);
+            if (lote.isEmpty()) {
+                LockSupport.parkNanos(this, sondeoNanos);
+                continue;
+            }
+            enviar(lote);
+            lote.clear();
+        }
+    }
+
+    private void enviar(List<AfiliadoEvent> lote) {
+        for (int intento = 1; ; intento++) {
+            long inicio = System.nanoTime();
+            try {
+                sink.enviar(lote);
+                envioLote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                enviados.increment(lote.size());
+                return;
+            } catch (Exception e) {
+                if (intento > reintentos) {
+                    fallidos.increment(lote.size());
+                    log.error("No se pudo enviar un lote de {} eventos tras {} intentos", lote.size(), intento, e);
+                    return;
+                }
+                log.warn("Fallo enviando lote de {} eventos (intento {}): {}", lote.size(), intento, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pausaReintentoMs * intento));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread hilo = new Thread(this::runLoop, "afiliado-event-relay");
+        hilo.setDaemon(true);
+        relay = hilo;
+        hilo.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread hilo = relay;
+        if (hilo == null) {
+            return;
+        }
+        LockSupport.unpark(hilo);
+        try {
+            // El relay vacia lo que quede en el buffer antes de terminar
+            hilo.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        relay = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoLaboralRequest {
+    private String dni;
+    private String empresaId;
+}
@@ -0,0 +1,14 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.external;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ValidacionResponse {
+    private boolean valido;
+    private String estado;
+    private String mensaje;
+}
@@ -1,34 +1,53 @@
 package com.mutualidad.afiliado.infrastructure.adapter.output.external;
 
+import com.mutualidad.afiliado.application.port.output.ResultadoValidacion;
+import com.mutualidad.afiliado.application.port.output.SolicitudValidacion;
 import com.mutualidad.afiliado.application.port.output.ValidacionExternaPort;
 import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.ValidadorDocumento;
+import com.mutualidad.afiliado.infrastructure.config.ValidacionHttpProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Validaciones externas del afiliado.
+ * <p>
+ * El documento se valida en local: el servicio de validacion no tiene endpoint de documentos
+ * y el formato ya lo comprueba {@link Documento} al construirse. El estado laboral se consulta
+ * en {@code POST /api/validaciones/estado-laboral} de {@code validacion.service.url} con
+ * {@code {dni, empresaId}}, que responde {@code {valido, estado, mensaje}}. Todas las llamadas
+ * usan el {@link RestTemplate} con pool de conexiones; las asincronas se ejecutan en
+ * {@code validacionHttpExecutor}, asi que comparten limites, timeouts y metricas.
+ * <p>
+ * Si el servicio no responde, no responde a tiempo o devuelve 5xx se aplica
+ * {@code validacion.service.estado-laboral.fail-open}. Un 4xx es un error de configuracion
+ * (ruta o peticion incorrecta) y siempre se rechaza, para que no quede oculto.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ValidacionRestAdapter implements ValidacionExternaPort {
 
-    private final RestTemplate restTemplate;
+    private static final String ESTADO_LABORAL_PATH = "/api/validaciones/estado-laboral";
 
-    @Value("${validacion.service.url}")
-    private String validacionServiceUrl;
+    private final RestTemplate restTemplate;
+    private final ExecutorService validacionHttpExecutor;
+    private final ValidacionHttpProperties properties;
 
     @Override
     public boolean validarDocumento(Documento documento) {
-        try {
-            log.info("Validando documento: {}/{}", documento.getTipo(), documento.getNumero());
-            // En desarrollo, simulamos validacion exitosa
-            // En produccion, llamariamos al servicio externo
-            return true;
-        } catch (Exception e) {
-            log.error("Error validando documento: {}", e.getMessage());
-            return true; // Fail-open para desarrollo
-        }
+        log.info("Validando documento: {}/{}", documento.getTipo(), documento.getNumero());
+        return ValidadorDocumento.formatoValido(documento.getTipo(), documento.getNumero());
     }
 
     @Override
@@ -36,11 +55,46 @@ public class ValidacionRestAdapter implements ValidacionExternaPort {
         try {
             log.info("Verificando estado laboral: empresa={}, documento={}", 
                 codigoEmpresa, numeroDocumento);
-            // En desarrollo, simulamos estado activo
-            return true;
+            ValidacionResponse response = restTemplate.postForObject(
+                properties.getUrl() + ESTADO_LABORAL_PATH,
+                new EstadoLaboralRequest(numeroDocumento, codigoEmpresa),
+                ValidacionResponse.class);
+            return response != null && response.isValido();
+        } catch (HttpClientErrorException e) {
+            log.error("Peticion rechazada verificando estado laboral ({}): revisar validacion.service.url",
+                e.getStatusCode());
+            return false;
         } catch (Exception e) {
             log.error("Error verificando estado laboral: {}", e.getMessage());
-            return true;
+            return properties.getEstadoLaboral().isFailOpen();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validarDocumentoAsync(Documento documento) {
+        return CompletableFuture.completedFuture(validarDocumento(documento));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> verificarEstadoLaboralAsync(String codigoEmpresa, String numeroDocumento) {
+        return CompletableFuture.supplyAsync(
+            () -> verificarEstadoLaboral(codigoEmpresa, numeroDocumento), validacionHttpExecutor);
+    }
+
+    @Override
+    public List<ResultadoValidacion> validarLote(List<SolicitudValidacion> solicitudes) {
+        log.info("Validando lote de {} afiliados", solicitudes.size());
+        Semaphore enVuelo = new Semaphore(Math.max(1, properties.getLoteConcurrencia()));
+        List<CompletableFuture<ResultadoValidacion>> resultados = new ArrayList<>(solicitudes.size());
+        for (SolicitudValidacion solicitud : solicitudes) {
+            Documento documento = solicitud.getDocumento();
+            boolean documentoValido = validarDocumento(documento);
+            enVuelo.acquireUninterruptibly();
+            CompletableFuture<Boolean> estadoLaboral =
+                verificarEstadoLaboralAsync(solicitud.getCodigoEmpresa(), documento.getNumero());
+            estadoLaboral.whenComplete((activo, e) -> enVuelo.release());
+            resultados.add(estadoLaboral.thenApply(activo -> new ResultadoValidacion(documentoValido, activo)));
         }
+        return resultados.stream().map(CompletableFuture::join).collect(Collectors.toList());
     }
 }
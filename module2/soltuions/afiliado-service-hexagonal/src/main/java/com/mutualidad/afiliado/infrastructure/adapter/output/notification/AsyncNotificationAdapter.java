@@ -0,0 +1,235 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import com.mutualidad.afiliado.application.port.output.NotificacionPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jctools.queues.MpscArrayQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Notificaciones fuera del hilo del caso de uso: se dejan en una cola acotada y un unico hilo las
+ * agrupa por canal y las entrega por lotes al {@link NotificacionSender}.
+ * <p>
+ * Dentro de una transaccion se encolan tras el commit; si se deshace no se notifica nada. El hilo
+ * espera {@code espera-lote-ms} a que se junten notificaciones salvo que ya haya un lote completo.
+ * Con la cola llena la notificacion se descarta en el acto, para no frenar al caso de uso, y queda
+ * en la metrica y en el log. Lo que el sender no consigue entregar se reintenta con pausa creciente
+ * hasta {@code reintentos} veces.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.dispatcher", havingValue = "async", matchIfMissing = true)
+@Slf4j
+public class AsyncNotificationAdapter implements NotificacionPort, SmartLifecycle {
+
+    private final NotificacionSender sender;
+    private final MpscArrayQueue<Notificacion> cola;
+    private final int tamanoLote;
+    private final long esperaLoteNanos;
+    private final int reintentos;
+    private final long pausaReintentoMs;
+
+    private final Counter descartadas;
+    private final Counter reintentadas;
+    private final Map<Canal, Counter> enviadas = new EnumMap<>(Canal.class);
+    private final Map<Canal, Counter> fallidas = new EnumMap<>(Canal.class);
+    private final Timer envioLote;
+
+    private volatile boolean running;
+    private volatile Thread dispatcher;
+
+    public AsyncNotificationAdapter(NotificacionSender sender,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.async.capacidad:4096}") int capacidad,
+                                    @Value("${notification.async.tamano-lote:100}") int tamanoLote,
+                                    @Value("${notification.async.espera-lote-ms:50}") long esperaLoteMs,
+                                    @Value("${notification.async.reintentos:3}") int reintentos,
+                                    @Value("${notification.async.pausa-reintento-ms:500}") long pausaReintentoMs) {
+        this.sender = sender;
+        this.cola = new MpscArrayQueue<>(capacidad);
+        this.tamanoLote = tamanoLote;
+        this.esperaLoteNanos = TimeUnit.MILLISECONDS.toNanos(esperaLoteMs);
+        this.reintentos = reintentos;
+        this.pausaReintentoMs = pausaReintentoMs;
+
+        Gauge.builder("afiliado.notificaciones.pending", cola, MpscArrayQueue::size)
+            .description("Notificaciones en cola pendientes de enviar")
+            .register(meterRegistry);
+        this.descartadas = Counter.builder("afiliado.notificaciones.dropped")
+            .description("Notificaciones descartadas por cola llena")
+            .register(meterRegistry);
+        this.reintentadas = Counter.builder("afiliado.notificaciones.retried")
+            .description("Notificaciones reenviadas tras un fallo")
+            .register(meterRegistry);
+        for (Canal canal : Canal.values()) {
+            enviadas.put(canal, Counter.builder("afiliado.notificaciones.sent")
+                .description("Notificaciones entregadas")
+                .tag("canal", canal.name())
+                .register(meterRegistry));
+            fallidas.put(canal, Counter.builder("afiliado.notificaciones.failed")
+                .description("Notificaciones perdidas tras agotar los reintentos")
+                .tag("canal", canal.name())
+                .register(meterRegistry));
+        }
+        this.envioLote = Timer.builder("afiliado.notificaciones.batch")
+            .description("Tiempo de envio de cada lote")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void enviarBienvenida(String afiliadoId, String email, String nombre) {
+        publicar(Notificacion.builder()
+            .tipo(Notificacion.Tipo.BIENVENIDA)
+            .canal(Canal.EMAIL)
+            .afiliadoId(afiliadoId)
+            .email(email)
+            .nombre(nombre)
+            .asunto("Bienvenido a la Mutualidad")
+            .contenido(String.format("Hola %s, tu afiliacion ya esta activa.", nombre))
+            .build());
+    }
+
+    @Override
+    public void notificarBaja(String afiliadoId, String email, String nombre, String motivo) {
+        publicar(Notificacion.builder()
+            .tipo(Notificacion.Tipo.BAJA)
+            .canal(Canal.EMAIL)
+            .afiliadoId(afiliadoId)
+            .email(email)
+            .nombre(nombre)
+            .asunto("Baja en la Mutualidad")
+            .contenido(String.format("Hola %s, se ha tramitado tu baja. Motivo: %s", nombre, motivo))
+            .build());
+    }
+
+    @Override
+    public void notificarReactivacion(String afiliadoId, String email, String nombre) {
+        publicar(Notificacion.builder()
+            .tipo(Notificacion.Tipo.REACTIVACION)
+            .canal(Canal.EMAIL)
+            .afiliadoId(afiliadoId)
+            .email(email)
+            .nombre(nombre)
+            .asunto("Reactivacion en la Mutualidad")
+            .contenido(String.format("Hola %s, tu afiliacion se ha reactivado.", nombre))
+            .build());
+    }
+
+    public int pendientes() {
+        return cola.size();
+    }
+
+    private void publicar(Notificacion notificacion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    encolar(notificacion);
+                }
+            });
+        } else {
+            encolar(notificacion);
+        }
+    }
+
+    private void encolar(Notificacion notificacion) {
+        if (!cola.offer(notificacion)) {
+            descartadas.increment();
+            log.warn("Cola de notificaciones llena, se descarta {} para afiliado: {}",
+                notificacion.getTipo(), notificacion.getAfiliadoId());
+        }
+    }
+
+    private void runLoop() {
+        List<Notificacion> drenadas = new ArrayList<>(tamanoLote);
+        Map<Canal, List<Notificacion>> porCanal = new EnumMap<>(Canal.class);
+        while (running || !cola.isEmpty()) {
+            if (running && cola.size() < tamanoLote) {
+                LockSupport.parkNanos(this, esperaLoteNanos);
+            }
+            cola.drain(drenadas::add, tamanoLote);
+            if (drenadas.isEmpty()) {
+                continue;
+            }
+            for (Notificacion notificacion : drenadas) {
+                porCanal.computeIfAbsent(notificacion.getCanal(), c -> new ArrayList<>()).add(notificacion);
+            }
+            porCanal.forEach(this::enviar);
+            porCanal.clear();
+            drenadas.clear();
+        }
+    }
+
+    private void enviar(Canal canal, List<Notificacion> lote) {
+        List<Notificacion> pendientes = lote;
+        for (int intento = 1; ; intento++) {
+            long inicio = System.nanoTime();
+            List<Notificacion> noEntregadas;
+            try {
+                noEntregadas = sender.enviar(canal, pendientes);
+            } catch (Exception e) {
+                log.warn("Fallo enviando lote de {} notificaciones {} (intento {}): {}",
+                    pendientes.size(), canal, intento, e.getMessage());
+                noEntregadas = pendientes;
+            }
+            envioLote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            enviadas.get(canal).increment(pendientes.size() - noEntregadas.size());
+            if (noEntregadas.isEmpty()) {
+                return;
+            }
+            if (intento > reintentos) {
+                fallidas.get(canal).increment(noEntregadas.size());
+                log.error("Se pierden {} notificaciones {} tras {} intentos", noEntregadas.size(), canal, intento);
+                return;
+            }
+            reintentadas.increment(noEntregadas.size());
+            pendientes = noEntregadas;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pausaReintentoMs * intento));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread hilo = new Thread(this::runLoop, "afiliado-notificaciones");
+        hilo.setDaemon(true);
+        dispatcher = hilo;
+        hilo.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread hilo = dispatcher;
+        if (hilo == null) {
+            return;
+        }
+        LockSupport.unpark(hilo);
+        try {
+            // El hilo entrega lo que quede en la cola antes de terminar
+            hilo.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
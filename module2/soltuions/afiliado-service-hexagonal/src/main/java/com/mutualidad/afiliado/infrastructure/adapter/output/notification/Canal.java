@@ -0,0 +1,11 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+/**
+ * Canales de entrega del servicio de notificaciones.
+ */
+public enum Canal {
+    EMAIL,
+    SMS,
+    PUSH,
+    POSTAL
+}
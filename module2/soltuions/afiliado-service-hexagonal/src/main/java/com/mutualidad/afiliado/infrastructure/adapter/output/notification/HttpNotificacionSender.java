@@ -0,0 +1,53 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entrega las notificaciones a notificacion-service ({@code notification.service.url}) con
+ * {@code POST /notificaciones}. El servicio no tiene endpoint de lote, asi que se envian una tras
+ * otra por el {@link RestTemplate} con pool de conexiones, reutilizando la conexion abierta.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "http")
+@RequiredArgsConstructor
+@Slf4j
+public class HttpNotificacionSender implements NotificacionSender {
+
+    private static final String NOTIFICACIONES_PATH = "/notificaciones";
+
+    private final RestTemplate restTemplate;
+
+    @Value("${notification.service.url}")
+    private String notificacionServiceUrl;
+
+    @Override
+    public List<Notificacion> enviar(Canal canal, List<Notificacion> lote) {
+        List<Notificacion> fallidas = new ArrayList<>();
+        for (Notificacion notificacion : lote) {
+            NotificacionRequest request = new NotificacionRequest(
+                notificacion.getAfiliadoId(),
+                notificacion.getNombre(),
+                notificacion.getEmail(),
+                notificacion.getAsunto(),
+                notificacion.getContenido(),
+                canal.name());
+            try {
+                restTemplate.postForEntity(notificacionServiceUrl + NOTIFICACIONES_PATH, request, Void.class);
+            } catch (RestClientException e) {
+                log.warn("Error enviando notificacion {} del afiliado {}: {}",
+                    notificacion.getTipo(), notificacion.getAfiliadoId(), e.getMessage());
+                fallidas.add(notificacion);
+            }
+        }
+        return fallidas;
+    }
+}
@@ -0,0 +1,25 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino por defecto en local: solo registra las notificaciones.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LogNotificacionSender implements NotificacionSender {
+
+    @Override
+    public List<Notificacion> enviar(Canal canal, List<Notificacion> lote) {
+        for (Notificacion notificacion : lote) {
+            log.info("NOTIFICACION {}: {} a {} ({})", canal, notificacion.getTipo(),
+                notificacion.getNombre(), notificacion.getEmail());
+        }
+        return List.of();
+    }
+}
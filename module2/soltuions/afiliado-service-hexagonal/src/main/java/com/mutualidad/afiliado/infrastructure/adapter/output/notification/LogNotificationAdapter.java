@@ -2,24 +2,30 @@ package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
 
 import com.mutualidad.afiliado.application.port.output.NotificacionPort;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * Notificaciones sincronas que solo se registran en el log. Para pruebas locales
+ * ({@code notification.dispatcher=directo}).
+ */
 @Component
+@ConditionalOnProperty(name = "notification.dispatcher", havingValue = "directo")
 @Slf4j
 public class LogNotificationAdapter implements NotificacionPort {
 
     @Override
-    public void enviarBienvenida(String email, String nombre) {
+    public void enviarBienvenida(String afiliadoId, String email, String nombre) {
         log.info("NOTIFICACION: Enviando bienvenida a {} ({})", nombre, email);
     }
 
     @Override
-    public void notificarBaja(String email, String nombre, String motivo) {
+    public void notificarBaja(String afiliadoId, String email, String nombre, String motivo) {
         log.info("NOTIFICACION: Notificando baja a {} ({}). Motivo: {}", nombre, email, motivo);
     }
 
     @Override
-    public void notificarReactivacion(String email, String nombre) {
+    public void notificarReactivacion(String afiliadoId, String email, String nombre) {
         log.info("NOTIFICACION: Notificando reactivacion a {} ({})", nombre, email);
     }
 }
@@ -0,0 +1,19 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Notificacion {
+
+    public enum Tipo { BIENVENIDA, BAJA, REACTIVACION }
+
+    Tipo tipo;
+    Canal canal;
+    String afiliadoId;
+    String email;
+    String nombre;
+    String asunto;
+    String contenido;
+}
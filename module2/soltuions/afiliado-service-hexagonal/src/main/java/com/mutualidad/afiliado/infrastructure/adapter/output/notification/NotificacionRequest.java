@@ -0,0 +1,17 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificacionRequest {
+    private String afiliadoId;
+    private String nombreDestinatario;
+    private String email;
+    private String asunto;
+    private String contenido;
+    private String canal;
+}
@@ -0,0 +1,15 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import java.util.List;
+
+/**
+ * Destino al que {@link AsyncNotificationAdapter} entrega las notificaciones, por lotes de un mismo canal.
+ */
+public interface NotificacionSender {
+
+    /**
+     * Envia el lote y devuelve las notificaciones que no se pudieron entregar (vacia si todo fue bien);
+     * solo esas se reintentan. Si lanza excepcion se reintenta el lote entero.
+     */
+    List<Notificacion> enviar(Canal canal, List<Notificacion> lote) throws Exception;
+}
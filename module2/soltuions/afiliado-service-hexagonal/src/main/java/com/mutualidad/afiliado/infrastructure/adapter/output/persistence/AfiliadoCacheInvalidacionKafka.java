@@ -0,0 +1,48 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidacion de {@link CachingAfiliadoRepository} entre instancias a traves de Kafka.
+ * <p>
+ * Cada cambio confirmado se publica con clave {@code afiliadoId}; cada instancia escucha con
+ * su propio grupo de consumo, asi que todas reciben todas las invalidaciones (tambien las suyas,
+ * que no hacen dano).
+ */
+@Component
+@ConditionalOnProperty(name = "afiliado.cache.invalidacion-remota.enabled", havingValue = "true")
+@Slf4j
+public class AfiliadoCacheInvalidacionKafka {
+
+    private final CachingAfiliadoRepository cache;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+
+    public AfiliadoCacheInvalidacionKafka(CachingAfiliadoRepository cache,
+                                          KafkaTemplate<String, String> kafkaTemplate,
+                                          @Value("${afiliado.cache.invalidacion-remota.topic:afiliado-cache-invalidacion}") String topic) {
+        this.cache = cache;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    public void notificar(String afiliadoId) {
+        kafkaTemplate.send(topic, afiliadoId, afiliadoId).addCallback(
+            resultado -> log.debug("Invalidacion de cache enviada para afiliado: {}", afiliadoId),
+            error -> log.warn("No se pudo enviar la invalidacion de cache del afiliado {}: {}",
+                afiliadoId, error.getMessage()));
+    }
+
+    @KafkaListener(
+        topics = "${afiliado.cache.invalidacion-remota.topic:afiliado-cache-invalidacion}",
+        groupId = "${spring.application.name}-cache-${random.uuid}")
+    public void on(ConsumerRecord<String, String> record) {
+        cache.invalidarLocal(record.key());
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "afiliados", indexes = {
-    @Index(name = "idx_documento", columnList = "tipo_documento, numero_documento", unique = true)
+    @Index(name = "idx_documento", columnList = "tipo_documento, numero_documento", unique = true),
+    @Index(name = "idx_empresa_estado", columnList = "codigo_empresa, estado")
 })
 @Data
 @Builder
@@ -1,21 +1,45 @@
 package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
 
 import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
+import com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException;
 import com.mutualidad.afiliado.domain.model.Afiliado;
 import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AfiliadoJpaAdapter implements AfiliadoRepository {
 
+    private static final String INSERT_SQL = "INSERT INTO afiliados (id, tipo_documento, numero_documento, "
+        + "nombre, primer_apellido, segundo_apellido, fecha_nacimiento, email, telefono, direccion, "
+        + "codigo_postal, provincia, estado, fecha_alta, fecha_baja, motivo_baja, codigo_empresa) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final AfiliadoJpaRepository jpaRepository;
     private final AfiliadoPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Afiliado save(Afiliado afiliado) {
@@ -25,6 +49,52 @@ public class AfiliadoJpaAdapter implements AfiliadoRepository {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public Afiliado insertIfAbsent(Afiliado afiliado) {
+        log.debug("Insertando afiliado: {}", afiliado.getId());
+        // persist en lugar de save: con id asignado, save haria merge (SELECT previo).
+        // El flush fuerza el INSERT aqui para traducir la violacion del indice unico.
+        try {
+            entityManager.persist(mapper.toEntity(afiliado));
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (esDocumentoDuplicado(e)) {
+                throw new AfiliadoYaExisteException(afiliado.getDocumento().getNumero());
+            }
+            throw e;
+        }
+        return afiliado;
+    }
+
+    @Override
+    public void insertAll(List<Afiliado> afiliados) {
+        log.debug("Insertando lote de {} afiliados", afiliados.size());
+        // JDBC directo: un solo PreparedStatement por lote, sin pasar por el contexto de persistencia
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, afiliados, afiliados.size(), (ps, afiliado) -> {
+                ps.setString(1, afiliado.getId());
+                ps.setString(2, afiliado.getDocumento().getTipo().name());
+                ps.setString(3, afiliado.getDocumento().getNumero());
+                ps.setString(4, afiliado.getNombre());
+                ps.setString(5, afiliado.getPrimerApellido());
+                ps.setString(6, afiliado.getSegundoApellido());
+                ps.setObject(7, afiliado.getFechaNacimiento(), Types.DATE);
+                ps.setString(8, afiliado.getEmail());
+                ps.setString(9, afiliado.getTelefono());
+                ps.setString(10, afiliado.getDireccion());
+                ps.setString(11, afiliado.getCodigoPostal());
+                ps.setString(12, afiliado.getProvincia());
+                ps.setString(13, afiliado.getEstado().name());
+                ps.setTimestamp(14, Timestamp.valueOf(afiliado.getFechaAlta()));
+                ps.setTimestamp(15, afiliado.getFechaBaja() != null ? Timestamp.valueOf(afiliado.getFechaBaja()) : null);
+                ps.setString(16, afiliado.getMotivoBaja());
+                ps.setString(17, afiliado.getCodigoEmpresa());
+            });
+        } catch (DuplicateKeyException e) {
+            throw new AfiliadoYaExisteException("uno del lote de " + afiliados.size());
+        }
+    }
+
     @Override
     public Optional<Afiliado> findById(String id) {
         log.debug("Buscando afiliado por ID: {}", id);
@@ -50,9 +120,50 @@ public class AfiliadoJpaAdapter implements AfiliadoRepository {
         );
     }
 
+    @Override
+    public Set<Documento> findDocumentosExistentes(Collection<Documento> documentos) {
+        if (documentos.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> numeros = documentos.stream().map(Documento::getNumero).collect(Collectors.toSet());
+        Set<Documento> existentes = new HashSet<>();
+        for (Object[] fila : jpaRepository.findDocumentosByNumeroDocumentoIn(numeros)) {
+            Documento documento = new Documento(TipoDocumento.valueOf((String) fila[0]), (String) fila[1]);
+            if (documentos.contains(documento)) {
+                existentes.add(documento);
+            }
+        }
+        return existentes;
+    }
+
+    @Override
+    public Stream<Afiliado> streamByEmpresa(String codigoEmpresa, EstadoAfiliado estado) {
+        log.debug("Recorriendo afiliados de la empresa {} (estado {})", codigoEmpresa, estado);
+        Stream<AfiliadoEntity> entities = estado == null
+            ? jpaRepository.streamByCodigoEmpresa(codigoEmpresa)
+            : jpaRepository.streamByCodigoEmpresaAndEstado(codigoEmpresa, estado.name());
+        // Se sacan del contexto de persistencia segun se leen para que no crezca con el recorrido
+        return entities.map(entity -> {
+            entityManager.detach(entity);
+            return mapper.toDomain(entity);
+        });
+    }
+
     @Override
     public void deleteById(String id) {
         log.debug("Eliminando afiliado: {}", id);
         jpaRepository.deleteById(id);
     }
+
+    private static boolean esDocumentoDuplicado(PersistenceException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion) {
+                String nombre = violacion.getConstraintName() != null
+                    ? violacion.getConstraintName()
+                    : String.valueOf(violacion.getSQLException().getMessage());
+                return nombre.toLowerCase(Locale.ROOT).contains("idx_documento");
+            }
+        }
+        return false;
+    }
 }
@@ -1,10 +1,19 @@
 package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface AfiliadoJpaRepository extends JpaRepository<AfiliadoEntity, String> {
@@ -19,7 +28,18 @@ public interface AfiliadoJpaRepository extends JpaRepository<AfiliadoEntity, Str
         String numeroDocumento
     );
 
-    List<AfiliadoEntity> findByEstado(String estado);
+    @Query("select a.tipoDocumento, a.numeroDocumento from AfiliadoEntity a "
+        + "where a.numeroDocumento in :numeros")
+    List<Object[]> findDocumentosByNumeroDocumentoIn(@Param("numeros") Collection<String> numeros);
+
+    // Cursor con fetch size en lugar de List: la exportacion de una empresa puede ser de millones de filas.
+    // Hay que consumirlos dentro de una transaccion y cerrar el stream.
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select a from AfiliadoEntity a where a.codigoEmpresa = :codigoEmpresa order by a.id")
+    Stream<AfiliadoEntity> streamByCodigoEmpresa(@Param("codigoEmpresa") String codigoEmpresa);
 
-    List<AfiliadoEntity> findByCodigoEmpresa(String codigoEmpresa);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select a from AfiliadoEntity a where a.codigoEmpresa = :codigoEmpresa and a.estado = :estado order by a.id")
+    Stream<AfiliadoEntity> streamByCodigoEmpresaAndEstado(@Param("codigoEmpresa") String codigoEmpresa,
+                                                          @Param("estado") String estado);
 }
@@ -4,42 +4,26 @@ import com.mutualidad.afiliado.domain.model.Afiliado;
 import com.mutualidad.afiliado.domain.model.Documento;
 import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
 import com.mutualidad.afiliado.domain.model.TipoDocumento;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
 
-@Component
-public class AfiliadoPersistenceMapper {
+/**
+ * La conversion a entidad la genera MapStruct al compilar. La lectura se escribe a mano porque
+ * {@link Afiliado} solo se construye con {@code reconstitute}; usa la ruta de confianza, sin
+ * volver a validar el documento guardado.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface AfiliadoPersistenceMapper {
 
-    public AfiliadoEntity toEntity(Afiliado afiliado) {
-        return AfiliadoEntity.builder()
-            .id(afiliado.getId())
-            .tipoDocumento(afiliado.getDocumento().getTipo().name())
-            .numeroDocumento(afiliado.getDocumento().getNumero())
-            .nombre(afiliado.getNombre())
-            .primerApellido(afiliado.getPrimerApellido())
-            .segundoApellido(afiliado.getSegundoApellido())
-            .fechaNacimiento(afiliado.getFechaNacimiento())
-            .email(afiliado.getEmail())
-            .telefono(afiliado.getTelefono())
-            .direccion(afiliado.getDireccion())
-            .codigoPostal(afiliado.getCodigoPostal())
-            .provincia(afiliado.getProvincia())
-            .estado(afiliado.getEstado().name())
-            .fechaAlta(afiliado.getFechaAlta())
-            .fechaBaja(afiliado.getFechaBaja())
-            .motivoBaja(afiliado.getMotivoBaja())
-            .codigoEmpresa(afiliado.getCodigoEmpresa())
-            .build();
-    }
-
-    public Afiliado toDomain(AfiliadoEntity entity) {
-        Documento documento = new Documento(
-            TipoDocumento.valueOf(entity.getTipoDocumento()),
-            entity.getNumeroDocumento()
-        );
+    @Mapping(target = "tipoDocumento", source = "documento.tipo")
+    @Mapping(target = "numeroDocumento", source = "documento.numero")
+    AfiliadoEntity toEntity(Afiliado afiliado);
 
+    default Afiliado toDomain(AfiliadoEntity entity) {
         return Afiliado.reconstitute(
             entity.getId(),
-            documento,
+            Documento.reconstitute(TipoDocumento.valueOf(entity.getTipoDocumento()), entity.getNumeroDocumento()),
             entity.getNombre(),
             entity.getPrimerApellido(),
             entity.getSegundoApellido(),
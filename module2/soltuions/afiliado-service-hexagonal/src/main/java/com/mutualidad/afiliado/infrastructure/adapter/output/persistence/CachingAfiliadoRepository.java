@@ -0,0 +1,235 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Cache local delante de {@link AfiliadoJpaAdapter} para las busquedas por id y por documento.
+ * <p>
+ * Las transacciones de escritura (baja, reactivacion, cambio de contacto...) leen siempre de
+ * {@link AfiliadoJpaAdapter}: modificar una copia cacheada, posiblemente antigua, y guardarla
+ * pisaria cambios confirmados despues. Por la misma razon, y para no guardar nunca datos sin
+ * confirmar, solo se cachea lo leido fuera de ellas. {@code save} y {@code deleteById} invalidan en el momento y otra vez al terminar la
+ * transaccion; un contador de generacion evita que una lectura que empezo antes de la invalidacion
+ * deje en la cache el valor antiguo. Con la invalidacion remota activa, los cambios confirmados se
+ * avisan al resto de instancias; sin ella, {@code ttl-segundos} acota lo que puede durar un dato viejo.
+ * <p>
+ * El agregado es mutable, asi que solo las transacciones de solo lectura reciben la instancia
+ * cacheada; el resto recibe una copia.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "afiliado.cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CachingAfiliadoRepository implements AfiliadoRepository {
+
+    private final AfiliadoJpaAdapter delegate;
+    private final ObjectProvider<AfiliadoCacheInvalidacionKafka> invalidacionRemota;
+    private final Cache<String, Afiliado> porId;
+    private final Cache<Documento, String> idPorDocumento;
+    private final AtomicLong generacion = new AtomicLong();
+
+    public CachingAfiliadoRepository(AfiliadoJpaAdapter delegate,
+                                     ObjectProvider<AfiliadoCacheInvalidacionKafka> invalidacionRemota,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${afiliado.cache.max-size:10000}") long maxSize,
+                                     @Value("${afiliado.cache.ttl-segundos:600}") long ttlSegundos) {
+        this.delegate = delegate;
+        this.invalidacionRemota = invalidacionRemota;
+        this.porId = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+            .recordStats()
+            .build();
+        this.idPorDocumento = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, porId, "afiliados.por-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idPorDocumento, "afiliados.por-documento");
+    }
+
+    @Override
+    public Afiliado save(Afiliado afiliado) {
+        Afiliado guardado = delegate.save(afiliado);
+        invalidarTrasTransaccion(afiliado.getId(), afiliado.getDocumento());
+        return guardado;
+    }
+
+    @Override
+    public Afiliado insertIfAbsent(Afiliado afiliado) {
+        // No se cachean ausencias, asi que un alta no deja nada que invalidar
+        return delegate.insertIfAbsent(afiliado);
+    }
+
+    @Override
+    public void insertAll(List<Afiliado> afiliados) {
+        delegate.insertAll(afiliados);
+    }
+
+    @Override
+    public Optional<Afiliado> findById(String id) {
+        if (enTransaccionDeEscritura()) {
+            return delegate.findById(id);
+        }
+        Afiliado cacheado = porId.getIfPresent(id);
+        if (cacheado != null) {
+            return Optional.of(entregar(cacheado));
+        }
+        long generacionLectura = generacion.get();
+        Optional<Afiliado> leido = delegate.findById(id);
+        leido.ifPresent(afiliado -> cachear(afiliado, generacionLectura));
+        return leido;
+    }
+
+    @Override
+    public Optional<Afiliado> findByDocumento(Documento documento) {
+        if (enTransaccionDeEscritura()) {
+            return delegate.findByDocumento(documento);
+        }
+        Afiliado cacheado = cacheadoPorDocumento(documento);
+        if (cacheado != null) {
+            return Optional.of(entregar(cacheado));
+        }
+        long generacionLectura = generacion.get();
+        Optional<Afiliado> leido = delegate.findByDocumento(documento);
+        leido.ifPresent(afiliado -> cachear(afiliado, generacionLectura));
+        return leido;
+    }
+
+    @Override
+    public boolean existsByDocumento(Documento documento) {
+        return cacheadoPorDocumento(documento) != null || delegate.existsByDocumento(documento);
+    }
+
+    @Override
+    public Set<Documento> findDocumentosExistentes(Collection<Documento> documentos) {
+        return delegate.findDocumentosExistentes(documentos);
+    }
+
+    @Override
+    public Stream<Afiliado> streamByEmpresa(String codigoEmpresa, EstadoAfiliado estado) {
+        // Los recorridos no pasan por la cache: la llenarian de entradas que no se vuelven a leer
+        return delegate.streamByEmpresa(codigoEmpresa, estado);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Afiliado cacheado = porId.getIfPresent(id);
+        delegate.deleteById(id);
+        invalidarTrasTransaccion(id, cacheado != null ? cacheado.getDocumento() : null);
+    }
+
+    /**
+     * Invalida la entrada del afiliado solo en esta instancia. La usa la invalidacion remota.
+     */
+    public void invalidarLocal(String afiliadoId) {
+        generacion.incrementAndGet();
+        porId.invalidate(afiliadoId);
+    }
+
+    private Afiliado cacheadoPorDocumento(Documento documento) {
+        // El indice por documento solo vale si la entrada por id sigue viva
+        String id = idPorDocumento.getIfPresent(documento);
+        return id != null ? porId.getIfPresent(id) : null;
+    }
+
+    private void cachear(Afiliado afiliado, long generacionLectura) {
+        Afiliado copia = copiar(afiliado);
+        if (generacion.get() != generacionLectura) {
+            return;
+        }
+        porId.put(copia.getId(), copia);
+        idPorDocumento.put(copia.getDocumento(), copia.getId());
+        if (generacion.get() != generacionLectura) {
+            // Se invalido mientras se guardaba: puede ser un valor antiguo
+            porId.invalidate(copia.getId());
+        }
+    }
+
+    private static boolean enTransaccionDeEscritura() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private Afiliado entregar(Afiliado cacheado) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return cacheado;
+        }
+        return copiar(cacheado);
+    }
+
+    private void invalidarTrasTransaccion(String id, Documento documento) {
+        invalidar(id, documento);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificarRemoto(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidar(id, documento);
+                if (status == STATUS_COMMITTED) {
+                    notificarRemoto(id);
+                }
+            }
+        });
+    }
+
+    private void invalidar(String id, Documento documento) {
+        generacion.incrementAndGet();
+        porId.invalidate(id);
+        if (documento != null) {
+            idPorDocumento.invalidate(documento);
+        }
+    }
+
+    private void notificarRemoto(String id) {
+        invalidacionRemota.ifAvailable(remota -> remota.notificar(id));
+    }
+
+    private static Afiliado copiar(Afiliado afiliado) {
+        return Afiliado.reconstitute(
+            afiliado.getId(),
+            afiliado.getDocumento(),
+            afiliado.getNombre(),
+            afiliado.getPrimerApellido(),
+            afiliado.getSegundoApellido(),
+            afiliado.getFechaNacimiento(),
+            afiliado.getEmail(),
+            afiliado.getTelefono(),
+            afiliado.getDireccion(),
+            afiliado.getCodigoPostal(),
+            afiliado.getProvincia(),
+            afiliado.getEstado(),
+            afiliado.getFechaAlta(),
+            afiliado.getFechaBaja(),
+            afiliado.getMotivoBaja(),
+            afiliado.getCodigoEmpresa()
+        );
+    }
+}
@@ -1,14 +1,125 @@
 package com.mutualidad.afiliado.infrastructure.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HeaderElement;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.protocol.HTTP;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RestTemplate con pool de conexiones (Apache HttpClient) para el servicio de validacion:
+ * keep-alive, limite de conexiones total y por ruta, y timeouts de conexion, lectura y
+ * espera de conexion libre. Al construirse con {@link RestTemplateBuilder} publica las metricas
+ * {@code http.client.requests}; el pool publica {@code httpcomponents.httpclient.pool.*}.
+ * <p>
+ * Las llamadas asincronas usan el mismo RestTemplate desde {@code validacionHttpExecutor}, con
+ * tantos hilos como conexiones por ruta: mas hilos solo esperarian por una conexion libre.
+ */
 @Configuration
+@EnableConfigurationProperties(ValidacionHttpProperties.class)
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager validacionConnectionManager(ValidacionHttpProperties properties) {
+        return crearConnectionManager(properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient validacionApacheHttpClient(PoolingHttpClientConnectionManager validacionConnectionManager,
+                                                          ValidacionHttpProperties properties) {
+        return crearHttpClient(validacionConnectionManager, properties);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient validacionApacheHttpClient) {
+        return builder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(validacionApacheHttpClient))
+            .build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService validacionHttpExecutor(ValidacionHttpProperties properties) {
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getPool().getMaxPerRoute(), r -> {
+            Thread hilo = new Thread(r, "validacion-http-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder validacionExecutorMetrics(ExecutorService validacionHttpExecutor) {
+        return new ExecutorServiceMetrics(validacionHttpExecutor, "validacion-http", Collections.emptyList());
+    }
+
+    @Bean
+    public MeterBinder validacionPoolMetrics(PoolingHttpClientConnectionManager validacionConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(validacionConnectionManager, "validacion");
+    }
+
+    public static PoolingHttpClientConnectionManager crearConnectionManager(ValidacionHttpProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getPool().getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getPool().getMaxPerRoute());
+        // Comprueba las conexiones que llevan un rato ociosas antes de reutilizarlas
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    public static CloseableHttpClient crearHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                      ValidacionHttpProperties properties) {
+        ValidacionHttpProperties.Pool pool = properties.getPool();
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout((int) properties.getConnectTimeoutMs())
+            .setSocketTimeout((int) properties.getReadTimeoutMs())
+            .setConnectionRequestTimeout((int) pool.getConnectionRequestTimeoutMs())
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setConnectionManagerShared(true)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy(keepAlive(pool.getKeepAliveMs()))
+            .evictExpiredConnections()
+            .evictIdleConnections(pool.getKeepAliveMs(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    /**
+     * Respeta el {@code Keep-Alive: timeout=N} del servidor; si no lo envia, usa el valor por defecto.
+     */
+    private static ConnectionKeepAliveStrategy keepAlive(long porDefectoMs) {
+        return (response, context) -> {
+            BasicHeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement elemento = it.nextElement();
+                if ("timeout".equalsIgnoreCase(elemento.getName()) && elemento.getValue() != null) {
+                    try {
+                        return Long.parseLong(elemento.getValue()) * 1000;
+                    } catch (NumberFormatException ignorado) {
+                        break;
+                    }
+                }
+            }
+            return porDefectoMs;
+        };
     }
 }
@@ -0,0 +1,43 @@
+package com.mutualidad.afiliado.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Servicio de validacion ({@code validacion.service.*}): destino, conexiones HTTP y
+ * comportamiento ante fallos.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "validacion.service")
+public class ValidacionHttpProperties {
+
+    @NotBlank
+    private String url;
+    private long connectTimeoutMs = 1000;
+    private long readTimeoutMs = 2000;
+    // Peticiones simultaneas como maximo al validar un lote
+    private int loteConcurrencia = 20;
+    private EstadoLaboral estadoLaboral = new EstadoLaboral();
+    private Pool pool = new Pool();
+
+    @Data
+    public static class EstadoLaboral {
+        // Resultado si el servicio no responde; en desarrollo no suele estar levantado
+        private boolean failOpen = true;
+    }
+
+    @Data
+    public static class Pool {
+        // Conexiones abiertas en total y por host:puerto
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;
+        // Espera maxima por una conexion libre del pool
+        private long connectionRequestTimeoutMs = 500;
+        // Tiempo que se mantiene viva una conexion ociosa si el servidor no indica otro
+        private long keepAliveMs = 30000;
+    }
+}
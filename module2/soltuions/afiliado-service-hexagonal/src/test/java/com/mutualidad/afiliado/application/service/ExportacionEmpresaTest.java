@@ -0,0 +1,78 @@
+package com.mutualidad.afiliado.application.service;
+
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:exportacion;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Exportacion de afiliados por empresa")
+class ExportacionEmpresaTest {
+
+    @Autowired
+    private AfiliadoUseCase afiliadoUseCase;
+
+    @Autowired
+    private AfiliadoRepository afiliadoRepository;
+
+    @BeforeAll
+    void setUp() {
+        afiliadoRepository.save(afiliado("33333333P", "EMP010", true));
+        afiliadoRepository.save(afiliado("44444444A", "EMP010", false));
+        afiliadoRepository.save(afiliado("55555555K", "EMP010", true));
+        afiliadoRepository.save(afiliado("66666666Q", "EMP011", true));
+    }
+
+    @Test
+    @DisplayName("Debe entregar todos los afiliados de la empresa ordenados por id")
+    void debeExportarTodosLosDeLaEmpresa() {
+        List<AfiliadoDTO> exportados = new ArrayList<>();
+        afiliadoUseCase.exportarPorEmpresa("EMP010", null, exportados::add);
+
+        assertThat(exportados).extracting(AfiliadoDTO::getNumeroDocumento)
+            .containsExactlyInAnyOrder("33333333P", "44444444A", "55555555K");
+        assertThat(exportados).extracting(AfiliadoDTO::getId).isSorted();
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por estado")
+    void debeFiltrarPorEstado() {
+        List<AfiliadoDTO> exportados = new ArrayList<>();
+        afiliadoUseCase.exportarPorEmpresa("EMP010", "PENDIENTE", exportados::add);
+
+        assertThat(exportados).extracting(AfiliadoDTO::getNumeroDocumento).containsExactly("44444444A");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un estado desconocido")
+    void debeRechazarEstadoDesconocido() {
+        assertThatThrownBy(() -> afiliadoUseCase.exportarPorEmpresa("EMP010", "BORRADO", a -> { }))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Afiliado afiliado(String dni, String codigoEmpresa, boolean activo) {
+        Afiliado afiliado = Afiliado.crear(
+            new Documento(TipoDocumento.DNI, dni),
+            "Ana", "Ruiz", null, LocalDate.of(1980, 3, 1),
+            "ana.ruiz@email.com", null, null, null, null, codigoEmpresa);
+        if (activo) {
+            afiliado.activar();
+        }
+        return afiliado;
+    }
+}
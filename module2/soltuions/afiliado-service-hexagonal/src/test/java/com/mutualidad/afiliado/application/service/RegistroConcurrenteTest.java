@@ -0,0 +1,80 @@
+package com.mutualidad.afiliado.application.service;
+
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.mutualidad.afiliado.domain.exception.AfiliadoYaExisteException;
+import com.mutualidad.afiliado.infrastructure.adapter.output.persistence.AfiliadoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:registroconcurrente;DB_CLOSE_DELAY=-1")
+@DisplayName("Registro concurrente de afiliados")
+class RegistroConcurrenteTest {
+
+    private static final int HILOS = 8;
+
+    @Autowired
+    private AfiliadoUseCase afiliadoUseCase;
+
+    @Autowired
+    private AfiliadoJpaRepository jpaRepository;
+
+    @Test
+    @DisplayName("Solo uno de varios registros simultaneos con el mismo documento debe tener exito")
+    void soloUnRegistroConElMismoDocumento() throws Exception {
+        CountDownLatch salida = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            resultados.add(executor.submit(() -> {
+                salida.await();
+                return afiliadoUseCase.registrarAfiliado(command("12345678Z"));
+            }));
+        }
+
+        salida.countDown();
+        int exitos = 0;
+        int duplicados = 0;
+        for (Future<?> resultado : resultados) {
+            try {
+                resultado.get(30, TimeUnit.SECONDS);
+                exitos++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(AfiliadoYaExisteException.class);
+                duplicados++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(exitos).isEqualTo(1);
+        assertThat(duplicados).isEqualTo(HILOS - 1);
+        assertThat(jpaRepository.findByTipoDocumentoAndNumeroDocumento("DNI", "12345678Z")).isPresent();
+        assertThat(jpaRepository.count()).isEqualTo(1);
+    }
+
+    private RegistrarAfiliadoCommand command(String numeroDocumento) {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento(numeroDocumento)
+            .nombre("Juan")
+            .primerApellido("Garcia")
+            .fechaNacimiento(LocalDate.of(1985, 3, 15))
+            .email("juan.garcia@email.com")
+            .codigoEmpresa("EMP001")
+            .build();
+    }
+}
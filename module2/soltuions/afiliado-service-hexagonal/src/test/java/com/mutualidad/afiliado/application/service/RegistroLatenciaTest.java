@@ -0,0 +1,97 @@
+package com.mutualidad.afiliado.application.service;
+
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Registro contra un servicio de validacion que tarda {@value #LATENCIA_MS} ms por llamada.
+ * El documento se valida en local, asi que cada registro hace una sola llamada remota
+ * (la del estado laboral). La latencia se mide en {@code RegistroLatenciaBenchmark}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:registrolatencia;DB_CLOSE_DELAY=-1")
+@DisplayName("Llamadas remotas del registro con validaciones concurrentes")
+class RegistroLatenciaTest {
+
+    private static final long LATENCIA_MS = 200;
+    private static final int REGISTROS = 5;
+
+    private static HttpServer servidor;
+    private static final AtomicInteger llamadas = new AtomicInteger();
+
+    @Autowired
+    private AfiliadoUseCase afiliadoUseCase;
+
+    @DynamicPropertySource
+    static void validacionService(DynamicPropertyRegistry registry) throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/api/validaciones/estado-laboral", RegistroLatenciaTest::responder);
+        servidor.setExecutor(Executors.newFixedThreadPool(8));
+        servidor.start();
+        registry.add("validacion.service.url", () -> "http://localhost:" + servidor.getAddress().getPort());
+        registry.add("validacion.service.estado-laboral.fail-open", () -> "false");
+    }
+
+    @AfterAll
+    static void pararServidor() {
+        servidor.stop(0);
+    }
+
+    private static void responder(HttpExchange exchange) throws IOException {
+        llamadas.incrementAndGet();
+        try {
+            Thread.sleep(LATENCIA_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = "{\"valido\":true,\"estado\":\"ACTIVO\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("Cada registro debe hacer solo la llamada remota del estado laboral")
+    void registroConValidacionesConcurrentes() {
+        for (int i = 1; i <= REGISTROS; i++) {
+            AfiliadoDTO afiliado = afiliadoUseCase.registrarAfiliado(command(String.format("1000000%dA", i)));
+            assertThat(afiliado.getEstado()).isEqualTo("ACTIVO");
+        }
+
+        assertThat(llamadas.get()).isEqualTo(REGISTROS);
+    }
+
+    private RegistrarAfiliadoCommand command(String numeroDocumento) {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento(numeroDocumento)
+            .nombre("Ana")
+            .primerApellido("Lopez")
+            .fechaNacimiento(LocalDate.of(1990, 6, 1))
+            .email("ana.lopez@email.com")
+            .codigoEmpresa("EMP001")
+            .build();
+    }
+}
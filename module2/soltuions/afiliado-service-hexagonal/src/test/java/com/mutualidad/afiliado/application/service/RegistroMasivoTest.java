@@ -0,0 +1,70 @@
+package com.mutualidad.afiliado.application.service;
+
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO.Resultado;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.mutualidad.afiliado.infrastructure.adapter.output.persistence.AfiliadoJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:registromasivo;DB_CLOSE_DELAY=-1",
+    "afiliado.registro-masivo.tamano-lote=2"
+})
+@DisplayName("Registro masivo de afiliados")
+class RegistroMasivoTest {
+
+    @Autowired
+    private AfiliadoUseCase afiliadoUseCase;
+
+    @Autowired
+    private AfiliadoJpaRepository jpaRepository;
+
+    @Test
+    @DisplayName("Debe devolver un resultado por fila, en orden, sin detenerse en invalidos ni duplicados")
+    void debeDevolverResultadoPorFila() {
+        Stream<RegistrarAfiliadoCommand> carga = Stream.of(
+            command("11111111H"),
+            command("123"),
+            command("22222222J"),
+            command("22222222J"),
+            command("11111111H"));
+
+        List<ResultadoRegistroDTO> resultados;
+        try (Stream<ResultadoRegistroDTO> stream = afiliadoUseCase.registrarAfiliados(carga)) {
+            resultados = stream.collect(Collectors.toList());
+        }
+
+        assertThat(resultados).extracting(ResultadoRegistroDTO::getFila).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(resultados).extracting(ResultadoRegistroDTO::getResultado).containsExactly(
+            Resultado.REGISTRADO, Resultado.INVALIDO, Resultado.REGISTRADO, Resultado.DUPLICADO, Resultado.DUPLICADO);
+        assertThat(resultados.get(0).getAfiliadoId()).isNotNull();
+        assertThat(resultados.get(1).getMensaje()).contains("Formato invalido");
+        assertThat(resultados.get(3).getMensaje()).contains("repetido");
+        assertThat(resultados.get(4).getMensaje()).contains("Ya existe");
+        assertThat(jpaRepository.count()).isEqualTo(2);
+        assertThat(jpaRepository.findById(resultados.get(2).getAfiliadoId())).isPresent();
+    }
+
+    private RegistrarAfiliadoCommand command(String numeroDocumento) {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento(numeroDocumento)
+            .nombre("Luis")
+            .primerApellido("Martin")
+            .fechaNacimiento(LocalDate.of(1975, 11, 20))
+            .email("luis.martin@email.com")
+            .codigoEmpresa("EMP002")
+            .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.AfiliadoServiceApplication;
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.mutualidad.afiliado.application.port.output.AfiliadoRepository;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas por segundo de {@code consultarPorId} y {@code consultarPorDocumento} sobre
+ * {@code afiliados} afiliados, con y sin {@code CachingAfiliadoRepository}, con 8 hilos.
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.AfiliadoCacheBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class AfiliadoCacheBenchmark {
+
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    @Param({"true", "false"})
+    private boolean cache;
+
+    @Param({"1000"})
+    private int afiliados;
+
+    private ConfigurableApplicationContext context;
+    private AfiliadoUseCase useCase;
+    private String[] ids;
+    private String[] documentos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AfiliadoServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:cachebenchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.mutualidad=WARN",
+                "afiliado.cache.enabled=" + cache)
+            .run();
+        useCase = context.getBean(AfiliadoUseCase.class);
+        AfiliadoRepository repository = context.getBean(AfiliadoRepository.class);
+
+        ids = new String[afiliados];
+        documentos = new String[afiliados];
+        for (int i = 0; i < afiliados; i++) {
+            int numero = 10_000_000 + i;
+            String dni = numero + String.valueOf(LETRAS.charAt(numero % 23));
+            Afiliado afiliado = Afiliado.crear(new Documento(TipoDocumento.DNI, dni), "Nombre", "Apellido", null,
+                LocalDate.of(1980, 1, 1), "afiliado" + i + "@email.com", null, null, null, null, "EMP001");
+            ids[i] = repository.save(afiliado).getId();
+            documentos[i] = dni;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<AfiliadoDTO> consultarPorId() {
+        return useCase.consultarPorId(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Optional<AfiliadoDTO> consultarPorDocumento() {
+        return useCase.consultarPorDocumento("DNI", documentos[ThreadLocalRandom.current().nextInt(documentos.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AfiliadoCacheBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
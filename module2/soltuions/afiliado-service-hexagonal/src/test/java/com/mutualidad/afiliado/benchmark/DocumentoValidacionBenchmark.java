@@ -0,0 +1,121 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import com.mutualidad.afiliado.domain.model.ValidadorDocumento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Nanosegundos por documento validado (normalizacion, formato y letra de control) con las
+ * regex, {@code substring} y {@code Integer.parseInt} anteriores frente a {@link ValidadorDocumento}.
+ * La mezcla es de DNI, NIE y pasaportes validos, como en una importacion masiva.
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.DocumentoValidacionBenchmark}
+ * (anadir {@code -prof gc} en las opciones para ver la memoria reservada por operacion)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentoValidacionBenchmark {
+
+    private static final int DOCUMENTOS = 1024;
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+    private static final Pattern DNI_PATTERN = Pattern.compile("^[0-9]{8}[A-Z]$");
+    private static final Pattern NIE_PATTERN = Pattern.compile("^[XYZ][0-9]{7}[A-Z]$");
+    private static final Pattern PASAPORTE_PATTERN = Pattern.compile("^[A-Z]{2}[0-9]{6}$");
+
+    private TipoDocumento[] tipos;
+    private String[] numeros;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(46);
+        tipos = new TipoDocumento[DOCUMENTOS];
+        numeros = new String[DOCUMENTOS];
+        for (int i = 0; i < DOCUMENTOS; i++) {
+            int n = random.nextInt(10_000_000);
+            switch (i % 3) {
+                case 0 -> {
+                    int dni = n * 10 + random.nextInt(10);
+                    tipos[i] = TipoDocumento.DNI;
+                    numeros[i] = String.format("%08d%c", dni, LETRAS.charAt(dni % 23));
+                }
+                case 1 -> {
+                    int prefijo = random.nextInt(3);
+                    tipos[i] = TipoDocumento.NIE;
+                    numeros[i] = String.format("%c%07d%c", "XYZ".charAt(prefijo), n,
+                        LETRAS.charAt((prefijo * 10_000_000 + n) % 23));
+                }
+                default -> {
+                    tipos[i] = TipoDocumento.PASAPORTE;
+                    numeros[i] = String.format("%c%c%06d", 'A' + random.nextInt(26), 'A' + random.nextInt(26),
+                        n % 1_000_000);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTOS)
+    public int regex() {
+        int validos = 0;
+        for (int i = 0; i < DOCUMENTOS; i++) {
+            TipoDocumento tipo = tipos[i];
+            String numero = numeros[i].toUpperCase().trim();
+            boolean formato = switch (tipo) {
+                case DNI -> DNI_PATTERN.matcher(numero).matches();
+                case NIE -> NIE_PATTERN.matcher(numero).matches();
+                case PASAPORTE -> PASAPORTE_PATTERN.matcher(numero).matches();
+            };
+            boolean letra = switch (tipo) {
+                case DNI -> LETRAS.charAt(Integer.parseInt(numero.substring(0, 8)) % 23) == numero.charAt(8);
+                case NIE -> LETRAS.charAt(Integer.parseInt("XYZ".indexOf(numero.charAt(0)) + numero.substring(1, 8)) % 23)
+                    == numero.charAt(8);
+                case PASAPORTE -> true;
+            };
+            if (formato && letra) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTOS)
+    public int validador() {
+        int validos = 0;
+        for (int i = 0; i < DOCUMENTOS; i++) {
+            TipoDocumento tipo = tipos[i];
+            String numero = ValidadorDocumento.normalizar(numeros[i]);
+            if (ValidadorDocumento.formatoValido(tipo, numero) && ValidadorDocumento.letraControlValida(tipo, numero)) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DocumentoValidacionBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
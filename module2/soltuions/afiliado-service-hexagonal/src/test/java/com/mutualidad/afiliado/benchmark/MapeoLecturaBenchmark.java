@@ -0,0 +1,136 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.service.AfiliadoMapper;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.EstadoAfiliado;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import com.mutualidad.afiliado.infrastructure.adapter.output.persistence.AfiliadoEntity;
+import com.mutualidad.afiliado.infrastructure.adapter.output.persistence.AfiliadoPersistenceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nanosegundos por afiliado en la cadena completa de lectura entidad → dominio → DTO: los mappers
+ * anteriores (documento validado de nuevo, builder escrito a mano) frente a la reconstitucion de
+ * confianza y los mappers generados por MapStruct.
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.MapeoLecturaBenchmark}
+ * (anadir {@code -prof gc} en las opciones para ver la memoria reservada por operacion)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeoLecturaBenchmark {
+
+    private static final int AFILIADOS = 1024;
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    private AfiliadoEntity[] entidades;
+    private AfiliadoPersistenceMapper persistenceMapper;
+    private AfiliadoMapper mapper;
+
+    @Setup
+    public void setUp() {
+        persistenceMapper = Mappers.getMapper(AfiliadoPersistenceMapper.class);
+        mapper = Mappers.getMapper(AfiliadoMapper.class);
+        entidades = new AfiliadoEntity[AFILIADOS];
+        for (int i = 0; i < AFILIADOS; i++) {
+            int dni = 30_000_000 + i * 7919;
+            entidades[i] = AfiliadoEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .tipoDocumento("DNI")
+                .numeroDocumento(String.format("%08d%c", dni, LETRAS.charAt(dni % 23)))
+                .nombre("Maria")
+                .primerApellido("Lopez")
+                .segundoApellido("Garcia")
+                .fechaNacimiento(LocalDate.of(1970 + i % 30, 1 + i % 12, 1 + i % 28))
+                .email("afiliado" + i + "@email.com")
+                .telefono("600" + (100_000 + i))
+                .direccion("Calle Mayor " + i)
+                .codigoPostal("28001")
+                .provincia("Madrid")
+                .estado(EstadoAfiliado.ACTIVO.name())
+                .fechaAlta(LocalDateTime.of(2020, 1, 1, 9, 0).plusDays(i))
+                .codigoEmpresa("EMP" + (i % 50))
+                .build();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AFILIADOS)
+    public void anterior(Blackhole bh) {
+        for (AfiliadoEntity entity : entidades) {
+            bh.consume(toDTOAnterior(toDomainAnterior(entity)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AFILIADOS)
+    public void generado(Blackhole bh) {
+        for (AfiliadoEntity entity : entidades) {
+            bh.consume(mapper.toDTO(persistenceMapper.toDomain(entity)));
+        }
+    }
+
+    private static Afiliado toDomainAnterior(AfiliadoEntity entity) {
+        Documento documento = new Documento(
+            TipoDocumento.valueOf(entity.getTipoDocumento()),
+            entity.getNumeroDocumento()
+        );
+        return Afiliado.reconstitute(
+            entity.getId(), documento, entity.getNombre(), entity.getPrimerApellido(),
+            entity.getSegundoApellido(), entity.getFechaNacimiento(), entity.getEmail(),
+            entity.getTelefono(), entity.getDireccion(), entity.getCodigoPostal(), entity.getProvincia(),
+            EstadoAfiliado.valueOf(entity.getEstado()), entity.getFechaAlta(), entity.getFechaBaja(),
+            entity.getMotivoBaja(), entity.getCodigoEmpresa()
+        );
+    }
+
+    private static AfiliadoDTO toDTOAnterior(Afiliado afiliado) {
+        return AfiliadoDTO.builder()
+            .id(afiliado.getId())
+            .tipoDocumento(afiliado.getDocumento().getTipo().name())
+            .numeroDocumento(afiliado.getDocumento().getNumero())
+            .nombreCompleto(afiliado.getNombreCompleto())
+            .fechaNacimiento(afiliado.getFechaNacimiento())
+            .email(afiliado.getEmail())
+            .telefono(afiliado.getTelefono())
+            .direccion(afiliado.getDireccion())
+            .estado(afiliado.getEstado().name())
+            .fechaAlta(afiliado.getFechaAlta())
+            .fechaBaja(afiliado.getFechaBaja())
+            .motivoBaja(afiliado.getMotivoBaja())
+            .codigoEmpresa(afiliado.getCodigoEmpresa())
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MapeoLecturaBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
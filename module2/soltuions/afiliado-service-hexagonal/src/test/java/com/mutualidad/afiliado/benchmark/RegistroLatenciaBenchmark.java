@@ -0,0 +1,126 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.AfiliadoServiceApplication;
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de {@code registrarAfiliado} contra un stub del servicio de validacion que tarda
+ * {@value #LATENCIA_MS} ms por llamada. El documento se valida en local, asi que el registro
+ * deberia quedarse cerca de una sola llamada remota (la del estado laboral), no de dos.
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.RegistroLatenciaBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RegistroLatenciaBenchmark {
+
+    private static final long LATENCIA_MS = 200;
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+    private static final byte[] RESPUESTA =
+        "{\"valido\":true,\"estado\":\"ACTIVO\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer servidor;
+    private ExecutorService servidorExecutor;
+    private ConfigurableApplicationContext context;
+    private AfiliadoUseCase useCase;
+    private int siguienteDni = 20_000_000;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/api/validaciones/estado-laboral", RegistroLatenciaBenchmark::responder);
+        servidorExecutor = Executors.newFixedThreadPool(8);
+        servidor.setExecutor(servidorExecutor);
+        servidor.start();
+
+        context = new SpringApplicationBuilder(AfiliadoServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:registrolatenciabenchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.mutualidad=WARN",
+                "validacion.service.url=http://localhost:" + servidor.getAddress().getPort(),
+                "validacion.service.estado-laboral.fail-open=false")
+            .run();
+        useCase = context.getBean(AfiliadoUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        servidor.stop(0);
+        servidorExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public AfiliadoDTO registrar() {
+        return useCase.registrarAfiliado(command(siguienteDni++));
+    }
+
+    private RegistrarAfiliadoCommand command(int numero) {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento(String.valueOf(numero) + LETRAS.charAt(numero % 23))
+            .nombre("Ana")
+            .primerApellido("Lopez")
+            .fechaNacimiento(LocalDate.of(1990, 6, 1))
+            .email("afiliado" + numero + "@email.com")
+            .codigoEmpresa("EMP001")
+            .build();
+    }
+
+    private static void responder(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(LATENCIA_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESPUESTA.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(RESPUESTA);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RegistroLatenciaBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
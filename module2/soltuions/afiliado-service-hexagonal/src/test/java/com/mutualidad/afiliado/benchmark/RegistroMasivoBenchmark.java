@@ -0,0 +1,129 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.AfiliadoServiceApplication;
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.dto.ResultadoRegistroDTO;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Registros por minuto de {@code registrarAfiliados} sobre H2 con un stub local del servicio de
+ * validacion que responde al instante. Cada invocacion registra {@value #FILAS} afiliados nuevos.
+ * Objetivo: 50.000 registros/minuto.
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.RegistroMasivoBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RegistroMasivoBenchmark {
+
+    private static final int FILAS = 5_000;
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+    private static final byte[] RESPUESTA =
+        "{\"valido\":true,\"estado\":\"ACTIVO\",\"mensaje\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer servidor;
+    private ExecutorService servidorExecutor;
+    private ConfigurableApplicationContext context;
+    private AfiliadoUseCase useCase;
+    private int siguienteDni = 10_000_000;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/", RegistroMasivoBenchmark::responder);
+        servidorExecutor = Executors.newFixedThreadPool(16);
+        servidor.setExecutor(servidorExecutor);
+        servidor.start();
+
+        context = new SpringApplicationBuilder(AfiliadoServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:registromasivobenchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.mutualidad=WARN",
+                "validacion.service.url=http://localhost:" + servidor.getAddress().getPort())
+            .run();
+        useCase = context.getBean(AfiliadoUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        servidor.stop(0);
+        servidorExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public long registrarLote() {
+        int primero = siguienteDni;
+        siguienteDni += FILAS;
+        Stream<RegistrarAfiliadoCommand> carga = IntStream.range(primero, primero + FILAS).mapToObj(this::command);
+        try (Stream<ResultadoRegistroDTO> resultados = useCase.registrarAfiliados(carga)) {
+            return resultados.filter(r -> r.getResultado() == ResultadoRegistroDTO.Resultado.REGISTRADO).count();
+        }
+    }
+
+    private RegistrarAfiliadoCommand command(int numero) {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento(String.valueOf(numero) + LETRAS.charAt(numero % 23))
+            .nombre("Nombre")
+            .primerApellido("Apellido")
+            .fechaNacimiento(LocalDate.of(1980, 1, 1))
+            .email("afiliado" + numero + "@email.com")
+            .codigoEmpresa("EMP001")
+            .build();
+    }
+
+    private static void responder(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESPUESTA.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(RESPUESTA);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RegistroMasivoBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
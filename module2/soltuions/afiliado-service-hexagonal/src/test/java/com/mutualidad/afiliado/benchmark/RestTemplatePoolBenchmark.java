@@ -0,0 +1,135 @@
+package com.mutualidad.afiliado.benchmark;
+
+import com.mutualidad.afiliado.infrastructure.adapter.output.external.EstadoLaboralRequest;
+import com.mutualidad.afiliado.infrastructure.adapter.output.external.ValidacionResponse;
+import com.mutualidad.afiliado.infrastructure.config.RestTemplateConfig;
+import com.mutualidad.afiliado.infrastructure.config.ValidacionHttpProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peticiones por segundo de {@code ValidacionRestAdapter.verificarEstadoLaboral} contra un stub
+ * local del servicio de validacion, con 8 hilos:
+ * <ul>
+ *   <li>{@code simple}: {@code new RestTemplate()} (SimpleClientHttpRequestFactory, la configuracion anterior)</li>
+ *   <li>{@code sinReutilizacion}: Apache HttpClient abriendo una conexion por peticion</li>
+ *   <li>{@code pool}: el cliente de {@link RestTemplateConfig} (pool con keep-alive)</li>
+ * </ul>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.afiliado.benchmark.RestTemplatePoolBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class RestTemplatePoolBenchmark {
+
+    private static final byte[] RESPUESTA =
+        "{\"valido\":true,\"estado\":\"ACTIVO\",\"mensaje\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer servidor;
+    private ExecutorService servidorExecutor;
+    private String url;
+
+    private RestTemplate simple;
+    private CloseableHttpClient clienteSinReutilizacion;
+    private RestTemplate sinReutilizacion;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient clientePool;
+    private RestTemplate pool;
+
+    private final EstadoLaboralRequest request = new EstadoLaboralRequest("12345678Z", "EMP001");
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        servidorExecutor = Executors.newFixedThreadPool(16);
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        servidor.createContext("/api/validaciones/estado-laboral", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPUESTA.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPUESTA);
+            }
+        });
+        servidor.setExecutor(servidorExecutor);
+        servidor.start();
+        url = "http://localhost:" + servidor.getAddress().getPort() + "/api/validaciones/estado-laboral";
+
+        simple = new RestTemplate();
+
+        clienteSinReutilizacion = HttpClients.custom()
+            .setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE)
+            .setMaxConnTotal(50)
+            .setMaxConnPerRoute(20)
+            .build();
+        sinReutilizacion = new RestTemplate(new HttpComponentsClientHttpRequestFactory(clienteSinReutilizacion));
+
+        ValidacionHttpProperties properties = new ValidacionHttpProperties();
+        connectionManager = RestTemplateConfig.crearConnectionManager(properties);
+        clientePool = RestTemplateConfig.crearHttpClient(connectionManager, properties);
+        pool = new RestTemplate(new HttpComponentsClientHttpRequestFactory(clientePool));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        clienteSinReutilizacion.close();
+        clientePool.close();
+        connectionManager.close();
+        servidor.stop(0);
+        servidorExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ValidacionResponse simple() {
+        return simple.postForObject(url, request, ValidacionResponse.class);
+    }
+
+    @Benchmark
+    public ValidacionResponse sinReutilizacion() {
+        return sinReutilizacion.postForObject(url, request, ValidacionResponse.class);
+    }
+
+    @Benchmark
+    public ValidacionResponse pool() {
+        return pool.postForObject(url, request, ValidacionResponse.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RestTemplatePoolBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,172 @@
+package com.mutualidad.afiliado.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara {@link ValidadorDocumento} con la implementacion anterior (regex, substring y parseInt).
+ */
+@DisplayName("Validador de documentos sin regex")
+class ValidadorDocumentoTest {
+
+    private static final String LETRAS = "TRWAGMYFPDXBNJZSQVHLCKE";
+    private static final Map<TipoDocumento, Pattern> PATRONES = new EnumMap<>(Map.of(
+        TipoDocumento.DNI, Pattern.compile("^[0-9]{8}[A-Z]$"),
+        TipoDocumento.NIE, Pattern.compile("^[XYZ][0-9]{7}[A-Z]$"),
+        TipoDocumento.PASAPORTE, Pattern.compile("^[A-Z]{2}[0-9]{6}$")
+    ));
+    private static final Map<TipoDocumento, String> PLANTILLAS = new EnumMap<>(Map.of(
+        TipoDocumento.DNI, "12345678Z",
+        TipoDocumento.NIE, "X1234567L",
+        TipoDocumento.PASAPORTE, "AB123456"
+    ));
+
+    @Nested
+    @DisplayName("Formato")
+    class FormatoTests {
+
+        @Test
+        @DisplayName("Debe coincidir con la regex al cambiar cada posicion por cada caracter hasta U+017F")
+        void debeCoincidirCaracterACaracter() {
+            for (TipoDocumento tipo : TipoDocumento.values()) {
+                String plantilla = PLANTILLAS.get(tipo);
+                for (int posicion = 0; posicion <= plantilla.length(); posicion++) {
+                    for (char c = 0; c < 0x180; c++) {
+                        comprobarFormato(tipo, reemplazar(plantilla, posicion, c));
+                        comprobarFormato(tipo, insertar(plantilla, posicion, c));
+                    }
+                    comprobarFormato(tipo, plantilla.substring(0, posicion));
+                }
+                // Digitos y letras no ASCII que Character.isDigit/isLetter aceptarian
+                for (char c : new char[] {'\u0660', '\u0966', '\uFF10', '\uFF21', '\u00C7', '\u00D1'}) {
+                    for (int posicion = 0; posicion < plantilla.length(); posicion++) {
+                        comprobarFormato(tipo, reemplazar(plantilla, posicion, c));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Debe coincidir con la regex en cadenas aleatorias")
+        void debeCoincidirEnCadenasAleatorias() {
+            String alfabeto = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZxyz -";
+            Random random = new Random(46);
+            char[] buffer = new char[12];
+            for (int i = 0; i < 300_000; i++) {
+                int longitud = random.nextInt(buffer.length);
+                for (int j = 0; j < longitud; j++) {
+                    buffer[j] = alfabeto.charAt(random.nextInt(alfabeto.length()));
+                }
+                String numero = new String(buffer, 0, longitud);
+                for (TipoDocumento tipo : TipoDocumento.values()) {
+                    comprobarFormato(tipo, numero);
+                }
+            }
+        }
+
+        private void comprobarFormato(TipoDocumento tipo, String numero) {
+            boolean esperado = PATRONES.get(tipo).matcher(numero).matches();
+            if (ValidadorDocumento.formatoValido(tipo, numero) != esperado) {
+                fail("Formato de %s '%s' deberia ser %s", tipo, numero, esperado);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Letra de control")
+    class LetraControlTests {
+
+        @Test
+        @DisplayName("Debe coincidir con substring + parseInt para todas las letras del DNI")
+        void debeCoincidirEnDni() {
+            char[] dni = new char[9];
+            for (int numero = 0; numero < 100_000_000; numero += numero < 100_000 ? 1 : 997) {
+                escribirDigitos(dni, 0, 8, numero);
+                for (int l = 0; l < 26; l++) {
+                    dni[8] = (char) ('A' + l);
+                    String valor = new String(dni);
+                    boolean esperado = LETRAS.charAt(Integer.parseInt(valor.substring(0, 8)) % 23) == valor.charAt(8);
+                    if (ValidadorDocumento.letraControlValida(TipoDocumento.DNI, valor) != esperado) {
+                        fail("Letra de %s deberia ser %s", valor, esperado);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Debe calcular la letra del NIE sustituyendo X, Y, Z por 0, 1, 2")
+        void debeCoincidirEnNie() {
+            char[] nie = new char[9];
+            for (char prefijo : new char[] {'X', 'Y', 'Z'}) {
+                nie[0] = prefijo;
+                for (int numero = 0; numero < 10_000_000; numero += numero < 100_000 ? 1 : 97) {
+                    escribirDigitos(nie, 1, 8, numero);
+                    for (int l = 0; l < 26; l++) {
+                        nie[8] = (char) ('A' + l);
+                        String valor = new String(nie);
+                        String sustituido = "XYZ".indexOf(prefijo) + valor.substring(1, 8);
+                        boolean esperado = LETRAS.charAt(Integer.parseInt(sustituido) % 23) == valor.charAt(8);
+                        if (ValidadorDocumento.letraControlValida(TipoDocumento.NIE, valor) != esperado) {
+                            fail("Letra de %s deberia ser %s", valor, esperado);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Documento debe rechazar letras de control incorrectas de DNI y NIE")
+        void documentoDebeValidarLetra() {
+            assertThat(new Documento(TipoDocumento.DNI, "12345678Z").validarLetraControl()).isTrue();
+            assertThat(new Documento(TipoDocumento.DNI, "12345678A").validarLetraControl()).isFalse();
+            assertThat(new Documento(TipoDocumento.NIE, "X1234567L").validarLetraControl()).isTrue();
+            assertThat(new Documento(TipoDocumento.NIE, "Y1234567L").validarLetraControl()).isFalse();
+            assertThat(new Documento(TipoDocumento.PASAPORTE, "AB123456").validarLetraControl()).isTrue();
+        }
+
+        private void escribirDigitos(char[] destino, int desde, int hasta, int numero) {
+            for (int i = hasta - 1; i >= desde; i--) {
+                destino[i] = (char) ('0' + numero % 10);
+                numero /= 10;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("normalizar debe equivaler a toUpperCase().trim()")
+    void normalizarDebeEquivaler() {
+        String alfabeto = "0Zz \t\nx\u00DF\u0131\u00E7-";
+        char[] buffer = new char[4];
+        int combinaciones = (int) Math.pow(alfabeto.length(), buffer.length);
+        for (int i = 0; i < combinaciones; i++) {
+            for (int j = 0, resto = i; j < buffer.length; j++, resto /= alfabeto.length()) {
+                buffer[j] = alfabeto.charAt(resto % alfabeto.length());
+            }
+            String numero = new String(buffer);
+            assertThat(ValidadorDocumento.normalizar(numero)).as(numero).isEqualTo(numero.toUpperCase().trim());
+        }
+        String normalizado = "12345678Z";
+        assertThat(ValidadorDocumento.normalizar(normalizado)).isSameAs(normalizado);
+    }
+
+    private static String reemplazar(String plantilla, int posicion, char c) {
+        if (posicion >= plantilla.length()) {
+            return plantilla + c;
+        }
+        char[] chars = plantilla.toCharArray();
+        chars[posicion] = c;
+        return new String(chars);
+    }
+
+    private static String insertar(String plantilla, int posicion, char c) {
+        return plantilla.substring(0, posicion) + c + plantilla.substring(posicion);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.event;
+
+import com.mutualidad.afiliado.domain.event.AfiliadoActivadoEvent;
+import com.mutualidad.afiliado.domain.event.AfiliadoEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Publicador de eventos con buffer acotado y relay")
+class RelayEventPublisherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<AfiliadoEvent>> lotes = new CopyOnWriteArrayList<>();
+    private RelayEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("publishAll debe llegar al destino como un unico lote y en orden")
+    void publishAllDebeEnviarUnLote() throws Exception {
+        publisher = crear(64, RelayEventPublisher.SiLlena.ESPERAR);
+        List<AfiliadoEvent> eventos = eventos(10);
+
+        publisher.publishAll(eventos);
+        publisher.start();
+        esperarEnviados(10);
+
+        assertThat(lotes).hasSize(1);
+        assertThat(lotes.get(0)).containsExactlyElementsOf(eventos);
+    }
+
+    @Test
+    @DisplayName("Con DESCARTAR no debe superar la capacidad y debe contar lo descartado")
+    void debeDescartarConBufferLleno() {
+        publisher = crear(4, RelayEventPublisher.SiLlena.DESCARTAR);
+
+        eventos(6).forEach(publisher::publish);
+
+        assertThat(publisher.pendientes()).isEqualTo(4);
+        assertThat(meterRegistry.counter("afiliado.events.relay.dropped").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Con ESPERAR debe entregar todo aunque el buffer sea mucho menor que la carga")
+    void debeEsperarConBufferLleno() throws Exception {
+        publisher = crear(4, RelayEventPublisher.SiLlena.ESPERAR);
+        publisher.start();
+        List<AfiliadoEvent> eventos = eventos(500);
+
+        eventos.forEach(publisher::publish);
+        esperarEnviados(500);
+
+        List<AfiliadoEvent> recibidos = lotes.stream().flatMap(List::stream).collect(Collectors.toList());
+        assertThat(recibidos).containsExactlyElementsOf(eventos);
+        assertThat(meterRegistry.counter("afiliado.events.relay.dropped").count()).isZero();
+    }
+
+    private RelayEventPublisher crear(int capacidad, RelayEventPublisher.SiLlena siLlena) {
+        EventSink sink = lote -> lotes.add(new ArrayList<>(lote));
+        return new RelayEventPublisher(sink, meterRegistry, capacidad, 256, siLlena, 2000, 0, 0, 10);
+    }
+
+    private List<AfiliadoEvent> eventos(int n) {
+        return IntStream.range(0, n)
+            .mapToObj(i -> (AfiliadoEvent) new AfiliadoActivadoEvent("afiliado-" + i))
+            .collect(Collectors.toList());
+    }
+
+    private void esperarEnviados(int total) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("afiliado.events.relay.sent").count() < total
+            && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.counter("afiliado.events.relay.sent").count()).isEqualTo(total);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.notification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Notificaciones asincronas por lotes")
+class AsyncNotificationAdapterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Notificacion>> lotes = new CopyOnWriteArrayList<>();
+    private AsyncNotificationAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe agrupar en un lote lo encolado y conservar el orden")
+    void debeAgruparEnUnLote() throws Exception {
+        adapter = crear(64, 0, (canal, lote) -> {
+            lotes.add(new ArrayList<>(lote));
+            return List.of();
+        });
+
+        adapter.enviarBienvenida("a-1", "uno@email.com", "Uno");
+        adapter.notificarBaja("a-2", "dos@email.com", "Dos", "Jubilacion");
+        adapter.notificarReactivacion("a-3", "tres@email.com", "Tres");
+        adapter.start();
+        esperarEnviadas(3);
+
+        assertThat(lotes).hasSize(1);
+        assertThat(lotes.get(0)).extracting(Notificacion::getTipo).containsExactly(
+            Notificacion.Tipo.BIENVENIDA, Notificacion.Tipo.BAJA, Notificacion.Tipo.REACTIVACION);
+        assertThat(lotes.get(0).get(1).getContenido()).contains("Jubilacion");
+    }
+
+    @Test
+    @DisplayName("Debe reintentar solo las notificaciones que no se entregaron")
+    void debeReintentarLasFallidas() throws Exception {
+        AtomicInteger llamadas = new AtomicInteger();
+        adapter = crear(64, 2, (canal, lote) -> {
+            lotes.add(new ArrayList<>(lote));
+            if (llamadas.incrementAndGet() == 1) {
+                return lote.stream().filter(n -> n.getAfiliadoId().equals("a-2")).collect(Collectors.toList());
+            }
+            return List.of();
+        });
+
+        adapter.enviarBienvenida("a-1", "uno@email.com", "Uno");
+        adapter.enviarBienvenida("a-2", "dos@email.com", "Dos");
+        adapter.start();
+        esperarEnviadas(2);
+
+        assertThat(lotes).hasSize(2);
+        assertThat(lotes.get(1)).extracting(Notificacion::getAfiliadoId).containsExactly("a-2");
+        assertThat(meterRegistry.counter("afiliado.notificaciones.retried").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("afiliado.notificaciones.failed", "canal", "EMAIL").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Con la cola llena debe descartar y contarlo sin bloquear")
+    void debeDescartarConColaLlena() {
+        adapter = crear(4, 0, (canal, lote) -> List.of());
+
+        for (int i = 0; i < 6; i++) {
+            adapter.enviarBienvenida("a-" + i, "afiliado@email.com", "Afiliado");
+        }
+
+        assertThat(adapter.pendientes()).isEqualTo(4);
+        assertThat(meterRegistry.counter("afiliado.notificaciones.dropped").count()).isEqualTo(2.0);
+    }
+
+    private AsyncNotificationAdapter crear(int capacidad, int reintentos, NotificacionSender sender) {
+        return new AsyncNotificationAdapter(sender, meterRegistry, capacidad, 100, 10, reintentos, 0);
+    }
+
+    private void esperarEnviadas(int total) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (enviadas() < total && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(enviadas()).isEqualTo(total);
+    }
+
+    private double enviadas() {
+        return meterRegistry.counter("afiliado.notificaciones.sent", "canal", "EMAIL").count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
+
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.service.AfiliadoMapper;
+import com.mutualidad.afiliado.domain.model.Afiliado;
+import com.mutualidad.afiliado.domain.model.Documento;
+import com.mutualidad.afiliado.domain.model.TipoDocumento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Mappers generados de afiliado")
+class AfiliadoPersistenceMapperTest {
+
+    private final AfiliadoPersistenceMapper persistenceMapper = Mappers.getMapper(AfiliadoPersistenceMapper.class);
+    private final AfiliadoMapper mapper = Mappers.getMapper(AfiliadoMapper.class);
+
+    @Test
+    @DisplayName("Debe conservar todos los campos en la ida y vuelta entidad - dominio")
+    void debeConservarCampos() {
+        Afiliado afiliado = Afiliado.crear(
+            new Documento(TipoDocumento.NIE, "X1234567L"),
+            "Maria", "Lopez", "Garcia", LocalDate.of(1985, 5, 15),
+            "maria.lopez@email.com", "600123456", "Calle Mayor 1", "28001", "Madrid", "EMP001");
+        afiliado.activar();
+
+        AfiliadoEntity entity = persistenceMapper.toEntity(afiliado);
+        assertThat(entity.getTipoDocumento()).isEqualTo("NIE");
+        assertThat(entity.getNumeroDocumento()).isEqualTo("X1234567L");
+        assertThat(entity.getEstado()).isEqualTo("ACTIVO");
+
+        Afiliado leido = persistenceMapper.toDomain(entity);
+        assertThat(leido).usingRecursiveComparison().isEqualTo(afiliado);
+
+        AfiliadoDTO dto = mapper.toDTO(leido);
+        assertThat(dto.getNumeroDocumento()).isEqualTo("X1234567L");
+        assertThat(dto.getNombreCompleto()).isEqualTo("Maria Lopez Garcia");
+        assertThat(dto.getEstado()).isEqualTo("ACTIVO");
+        assertThat(dto.getCodigoEmpresa()).isEqualTo("EMP001");
+    }
+
+    @Test
+    @DisplayName("No debe volver a validar el documento guardado")
+    void noDebeRevalidarDocumento() {
+        AfiliadoEntity entity = persistenceMapper.toEntity(Afiliado.crear(
+            new Documento(TipoDocumento.DNI, "12345678Z"),
+            "Maria", "Lopez", null, LocalDate.of(1985, 5, 15),
+            null, null, null, null, null, "EMP001"));
+        // Formato anterior a la validacion actual: se lee tal cual se guardo
+        entity.setNumeroDocumento("1234567Z");
+
+        assertThat(persistenceMapper.toDomain(entity).getDocumento().getNumero()).isEqualTo("1234567Z");
+    }
+}
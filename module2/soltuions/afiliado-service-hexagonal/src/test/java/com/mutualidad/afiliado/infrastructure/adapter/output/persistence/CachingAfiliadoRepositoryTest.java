@@ -0,0 +1,65 @@
+package com.mutualidad.afiliado.infrastructure.adapter.output.persistence;
+
+import com.mutualidad.afiliado.application.dto.AfiliadoDTO;
+import com.mutualidad.afiliado.application.dto.RegistrarAfiliadoCommand;
+import com.mutualidad.afiliado.application.port.input.AfiliadoUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cachingafiliado;DB_CLOSE_DELAY=-1")
+@DisplayName("Cache del repositorio de afiliados")
+class CachingAfiliadoRepositoryTest {
+
+    @Autowired
+    private AfiliadoUseCase afiliadoUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Debe servir las lecturas repetidas desde la cache e invalidarla al guardar")
+    void debeCachearEInvalidar() {
+        AfiliadoDTO registrado = afiliadoUseCase.registrarAfiliado(command());
+        String id = registrado.getId();
+
+        assertThat(afiliadoUseCase.consultarPorId(id)).isPresent();
+        double aciertos = aciertos();
+        assertThat(afiliadoUseCase.consultarPorId(id)).isPresent();
+        assertThat(afiliadoUseCase.consultarPorDocumento("DNI", "87654321X")).isPresent();
+        assertThat(aciertos()).isEqualTo(aciertos + 2);
+
+        // La baja lee del repositorio, no de la cache
+        double aciertosAntesDeLaBaja = aciertos();
+        afiliadoUseCase.darDeBaja(id, "Cambio de empresa");
+        assertThat(aciertos()).isEqualTo(aciertosAntesDeLaBaja);
+
+        assertThat(afiliadoUseCase.consultarPorId(id))
+            .hasValueSatisfying(dto -> assertThat(dto.getEstado()).isEqualTo("BAJA"));
+        assertThat(afiliadoUseCase.consultarPorDocumento("DNI", "87654321X"))
+            .hasValueSatisfying(dto -> assertThat(dto.getEstado()).isEqualTo("BAJA"));
+    }
+
+    private double aciertos() {
+        return meterRegistry.get("cache.gets").tag("cache", "afiliados.por-id").tag("result", "hit")
+            .functionCounter().count();
+    }
+
+    private RegistrarAfiliadoCommand command() {
+        return RegistrarAfiliadoCommand.builder()
+            .tipoDocumento("DNI")
+            .numeroDocumento("87654321X")
+            .nombre("Ana")
+            .primerApellido("Lopez")
+            .fechaNacimiento(LocalDate.of(1990, 6, 1))
+            .email("ana.lopez@email.com")
+            .codigoEmpresa("EMP001")
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mutualidad.afiliado.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:resttemplateconfig;DB_CLOSE_DELAY=-1",
+    "validacion.service.pool.max-total=30",
+    "validacion.service.pool.max-per-route=10"
+})
+@DisplayName("Configuracion del pool HTTP de validacion")
+class RestTemplateConfigTest {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Debe aplicar los limites configurados y publicar las metricas del pool")
+    void debeAplicarLimitesYPublicarMetricas() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(30);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(10);
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", "validacion").gauge())
+            .isNotNull()
+            .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(30.0));
+        // Las llamadas asincronas no pueden superar las conexiones por ruta
+        assertThat(meterRegistry.find("executor.pool.max").tag("name", "validacion-http").gauge())
+            .isNotNull()
+            .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(10.0));
+    }
+}
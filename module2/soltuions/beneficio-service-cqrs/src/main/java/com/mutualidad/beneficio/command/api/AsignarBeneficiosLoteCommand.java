@@ -0,0 +1,19 @@
+package com.mutualidad.beneficio.command.api;
+
+import lombok.Builder;
+import lombok.Value;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Value
+@Builder
+public class AsignarBeneficiosLoteCommand {
+
+    @NotEmpty(message = "El lote debe contener al menos un comando")
+    @Size(max = 10000, message = "El lote no puede superar 10000 comandos")
+    @Valid
+    List<AsignarBeneficioCommand> comandos;
+}
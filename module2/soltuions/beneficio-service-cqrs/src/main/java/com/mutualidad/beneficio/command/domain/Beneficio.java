@@ -10,7 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class Beneficio {
 
@@ -32,6 +32,9 @@ public class Beneficio {
     private String motivoSuspension;
     private String suspendidoPor;
 
+    // Version para el bloqueo optimista; null en beneficios aun no persistidos
+    private final Long version;
+
     public void revocar(String motivo, LocalDate fechaEfectiva, String usuario) {
         if (!esRevocable()) {
             throw new IllegalStateException("El beneficio no puede ser revocado en estado: " + estado);
@@ -1,10 +1,17 @@
 package com.mutualidad.beneficio.command.domain;
 
 import com.mutualidad.beneficio.command.api.TipoBeneficio;
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.BeneficioModificadoEvent;
+import com.mutualidad.beneficio.event.BeneficioRevocadoEvent;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -48,6 +55,57 @@ public class BeneficioAggregate {
         return new BeneficioAggregate(beneficio);
     }
 
+    /**
+     * Reconstruye el estado aplicando en orden los eventos del stream del beneficio
+     * sobre una snapshot previa (o desde cero si es null). No valida: los eventos
+     * ya se validaron al producirse.
+     */
+    public static Beneficio rehidratar(Beneficio snapshot, List<BeneficioEvent> eventos) {
+        Beneficio estado = snapshot;
+        for (BeneficioEvent evento : eventos) {
+            estado = aplicar(estado, evento);
+        }
+        return estado;
+    }
+
+    private static Beneficio aplicar(Beneficio estado, BeneficioEvent evento) {
+        if (evento instanceof BeneficioAsignadoEvent asignado) {
+            return Beneficio.builder()
+                .id(asignado.getBeneficioId())
+                .afiliadoId(asignado.getAfiliadoId())
+                .tipoBeneficio(TipoBeneficio.valueOf(asignado.getTipoBeneficio()))
+                .estado(EstadoBeneficio.valueOf(asignado.getEstado()))
+                .fechaInicio(asignado.getFechaInicio())
+                .fechaFin(asignado.getFechaFin())
+                .monto(asignado.getMonto())
+                .descripcion(asignado.getDescripcion())
+                .solicitadoPor(asignado.getSolicitadoPor())
+                .fechaCreacion(asignado.getFechaCreacion())
+                .build();
+        }
+        if (estado == null) {
+            throw new IllegalStateException("El stream del beneficio " + evento.getAggregateId()
+                + " no empieza por BENEFICIO_ASIGNADO");
+        }
+        if (evento instanceof BeneficioModificadoEvent modificado) {
+            return estado.toBuilder()
+                .monto(modificado.getMonto())
+                .fechaFin(modificado.getFechaFin())
+                .descripcion(modificado.getDescripcion())
+                .build();
+        }
+        if (evento instanceof BeneficioRevocadoEvent revocado) {
+            return estado.toBuilder()
+                .estado(EstadoBeneficio.REVOCADO)
+                .fechaFin(revocado.getFechaEfectiva())
+                .motivoRevocacion(revocado.getMotivo())
+                .revocadoPor(revocado.getRevocadoPor())
+                .fechaRevocacion(LocalDateTime.ofInstant(revocado.getOcurridoEn(), ZoneId.systemDefault()))
+                .build();
+        }
+        return estado;
+    }
+
     private static void validarFechas(LocalDate fechaInicio, LocalDate fechaFin) {
         if (fechaInicio == null) {
             throw new IllegalArgumentException("La fecha de inicio es obligatoria");
@@ -57,15 +57,24 @@ public class AsignarBeneficioHandler {
         Beneficio beneficio = aggregate.getBeneficio();
         repository.save(beneficio);
 
-        eventPublisher.publish(new BeneficioAsignadoEvent(
+        eventPublisher.publish(toEvent(beneficio));
+
+        log.info("Beneficio asignado exitosamente: id={}", beneficio.getId());
+        return CommandResult.success(beneficio.getId());
+    }
+
+    static BeneficioAsignadoEvent toEvent(Beneficio beneficio) {
+        return new BeneficioAsignadoEvent(
             beneficio.getId(),
             beneficio.getAfiliadoId(),
             beneficio.getTipoBeneficio().name(),
+            beneficio.getEstado().name(),
             beneficio.getFechaInicio(),
-            beneficio.getMonto()
-        ));
-
-        log.info("Beneficio asignado exitosamente: id={}", beneficio.getId());
-        return CommandResult.success(beneficio.getId());
+            beneficio.getFechaFin(),
+            beneficio.getMonto(),
+            beneficio.getDescripcion(),
+            beneficio.getSolicitadoPor(),
+            beneficio.getFechaCreacion()
+        );
     }
 }
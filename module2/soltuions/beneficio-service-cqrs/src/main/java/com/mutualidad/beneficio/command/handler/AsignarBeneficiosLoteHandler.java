@@ -0,0 +1,94 @@
+package com.mutualidad.beneficio.command.handler;
+
+import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.AsignarBeneficiosLoteCommand;
+import com.mutualidad.beneficio.command.api.CommandResult;
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.command.domain.BeneficioAggregate;
+import com.mutualidad.beneficio.command.repository.BeneficioWriteRepository;
+import com.mutualidad.beneficio.event.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.validation.Valid;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Asigna muchos beneficios en una sola transaccion.
+ * <p>
+ * Los beneficios activos de todos los afiliados del lote se consultan de una vez y los
+ * nuevos se insertan en lotes JDBC. Un comando que no supera las validaciones de negocio
+ * devuelve su {@link CommandResult} de fallo sin afectar al resto; un error de base de datos
+ * (por ejemplo, la restriccion de un solo beneficio ACTIVO por afiliado y tipo) revierte el lote.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AsignarBeneficiosLoteHandler {
+
+    private final BeneficioWriteRepository repository;
+    private final EventPublisher eventPublisher;
+
+    @Transactional
+    public List<CommandResult> handle(@Valid AsignarBeneficiosLoteCommand lote) {
+        List<AsignarBeneficioCommand> comandos = lote.getComandos();
+        log.info("Procesando lote de {} asignaciones de beneficio", comandos.size());
+
+        Set<String> afiliados = new LinkedHashSet<>();
+        comandos.forEach(cmd -> afiliados.add(cmd.getAfiliadoId()));
+
+        Set<String> ocupados = new HashSet<>();
+        repository.findActivosByAfiliados(afiliados)
+            .forEach(b -> ocupados.add(clave(b.getAfiliadoId(), b.getTipoBeneficio().name())));
+
+        List<CommandResult> resultados = new ArrayList<>(comandos.size());
+        List<Beneficio> nuevos = new ArrayList<>(comandos.size());
+        for (AsignarBeneficioCommand cmd : comandos) {
+            String clave = clave(cmd.getAfiliadoId(), cmd.getTipoBeneficio().name());
+            if (ocupados.contains(clave)) {
+                resultados.add(CommandResult.failure("Ya existe un beneficio activo de tipo " + cmd.getTipoBeneficio()));
+                continue;
+            }
+            if (cmd.getTipoBeneficio().requiereMonto() && cmd.getMonto() == null) {
+                resultados.add(CommandResult.failure("Este tipo de beneficio requiere especificar monto"));
+                continue;
+            }
+
+            BeneficioAggregate aggregate;
+            try {
+                aggregate = BeneficioAggregate.crear(
+                    cmd.getAfiliadoId(),
+                    cmd.getTipoBeneficio(),
+                    cmd.getFechaInicio(),
+                    cmd.getFechaFin(),
+                    cmd.getMonto(),
+                    cmd.getDescripcion(),
+                    cmd.getSolicitadoPor()
+                );
+            } catch (IllegalArgumentException e) {
+                resultados.add(CommandResult.failure(e.getMessage()));
+                continue;
+            }
+
+            ocupados.add(clave);
+            nuevos.add(aggregate.getBeneficio());
+            resultados.add(CommandResult.success(aggregate.getBeneficio().getId()));
+        }
+
+        repository.saveAll(nuevos);
+        nuevos.forEach(beneficio -> eventPublisher.publish(AsignarBeneficioHandler.toEvent(beneficio)));
+
+        log.info("Lote procesado: {} asignados, {} rechazados", nuevos.size(), comandos.size() - nuevos.size());
+        return resultados;
+    }
+
+    private static String clave(String afiliadoId, String tipoBeneficio) {
+        return afiliadoId + "|" + tipoBeneficio;
+    }
+}
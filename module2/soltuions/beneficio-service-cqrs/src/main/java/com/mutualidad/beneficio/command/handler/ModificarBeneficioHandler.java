@@ -50,6 +50,9 @@ public class ModificarBeneficioHandler {
         eventPublisher.publish(new BeneficioModificadoEvent(
             beneficio.getId(),
             beneficio.getAfiliadoId(),
+            beneficio.getMonto(),
+            beneficio.getFechaFin(),
+            beneficio.getDescripcion(),
             cmd.getMotivo(),
             cmd.getModificadoPor()
         ));
@@ -49,7 +49,8 @@ public class RevocarBeneficioHandler {
             beneficio.getId(),
             beneficio.getAfiliadoId(),
             cmd.getMotivo(),
-            fechaEfectiva
+            fechaEfectiva,
+            cmd.getRevocadoPor()
         ));
 
         log.info("Beneficio revocado exitosamente: id={}", cmd.getBeneficioId());
@@ -3,12 +3,15 @@ package com.mutualidad.beneficio.command.repository;
 import com.mutualidad.beneficio.command.api.TipoBeneficio;
 import com.mutualidad.beneficio.command.domain.Beneficio;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BeneficioWriteRepository {
     Beneficio save(Beneficio beneficio);
+    List<Beneficio> saveAll(List<Beneficio> beneficios);
     Optional<Beneficio> findById(String id);
     List<Beneficio> findActivosByAfiliadoAndTipo(String afiliadoId, TipoBeneficio tipo);
+    List<Beneficio> findActivosByAfiliados(Collection<String> afiliadoIds);
     void deleteById(String id);
 }
@@ -1,21 +1,38 @@
 package com.mutualidad.beneficio.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 
+/**
+ * Lleva el estado completo del beneficio recien asignado para que la proyeccion
+ * no tenga que releer el lado de escritura.
+ */
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class BeneficioAsignadoEvent implements BeneficioEvent {
     private final String beneficioId;
     private final String afiliadoId;
     private final String tipoBeneficio;
+    private final String estado;
     private final LocalDate fechaInicio;
+    private final LocalDate fechaFin;
     private final BigDecimal monto;
-    private final Instant ocurridoEn = Instant.now();
+    private final String descripcion;
+    private final String solicitadoPor;
+    private final LocalDate fechaCreacion;
+    private final Instant ocurridoEn;
+
+    public BeneficioAsignadoEvent(String beneficioId, String afiliadoId, String tipoBeneficio, String estado,
+                                  LocalDate fechaInicio, LocalDate fechaFin, BigDecimal monto,
+                                  String descripcion, String solicitadoPor, LocalDate fechaCreacion) {
+        this(beneficioId, afiliadoId, tipoBeneficio, estado, fechaInicio, fechaFin, monto,
+            descripcion, solicitadoPor, fechaCreacion, Instant.now());
+    }
 
     @Override
     public String getTipoEvento() {
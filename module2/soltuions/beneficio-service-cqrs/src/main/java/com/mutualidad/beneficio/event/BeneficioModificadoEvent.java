@@ -1,18 +1,32 @@
 package com.mutualidad.beneficio.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 
+/**
+ * Lleva los valores resultantes de la modificacion (monto, fecha de fin y descripcion).
+ */
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class BeneficioModificadoEvent implements BeneficioEvent {
     private final String beneficioId;
     private final String afiliadoId;
+    private final BigDecimal monto;
+    private final LocalDate fechaFin;
+    private final String descripcion;
     private final String motivo;
     private final String modificadoPor;
-    private final Instant ocurridoEn = Instant.now();
+    private final Instant ocurridoEn;
+
+    public BeneficioModificadoEvent(String beneficioId, String afiliadoId, BigDecimal monto, LocalDate fechaFin,
+                                    String descripcion, String motivo, String modificadoPor) {
+        this(beneficioId, afiliadoId, monto, fechaFin, descripcion, motivo, modificadoPor, Instant.now());
+    }
 
     @Override
     public String getTipoEvento() {
@@ -1,19 +1,26 @@
 package com.mutualidad.beneficio.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
 import java.time.LocalDate;
 
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class BeneficioRevocadoEvent implements BeneficioEvent {
     private final String beneficioId;
     private final String afiliadoId;
     private final String motivo;
     private final LocalDate fechaEfectiva;
-    private final Instant ocurridoEn = Instant.now();
+    private final String revocadoPor;
+    private final Instant ocurridoEn;
+
+    public BeneficioRevocadoEvent(String beneficioId, String afiliadoId, String motivo,
+                                  LocalDate fechaEfectiva, String revocadoPor) {
+        this(beneficioId, afiliadoId, motivo, fechaEfectiva, revocadoPor, Instant.now());
+    }
 
     @Override
     public String getTipoEvento() {
@@ -0,0 +1,43 @@
+package com.mutualidad.beneficio.event;
+
+import java.util.List;
+
+/**
+ * Almacen append-only de eventos de beneficio.
+ * <p>
+ * Cada evento recibe una secuencia dentro del stream de su agregado (1, 2, 3...) y una
+ * posicion global creciente que permite a los consumidores leer el log completo en orden.
+ * La posicion se asigna antes del commit: el log puede tener huecos que una transaccion
+ * abierta rellenara despues o que quedaran vacios para siempre.
+ */
+public interface EventStore {
+
+    /**
+     * Añade el evento al final del stream de su agregado dentro de la transaccion en curso.
+     *
+     * @return posicion global asignada
+     */
+    long append(BeneficioEvent event);
+
+    /**
+     * Eventos del agregado con secuencia mayor que la indicada, en orden.
+     */
+    List<BeneficioEvent> cargar(String aggregateId, long despuesDeSecuencia);
+
+    /**
+     * Hasta {@code limite} eventos con posicion global mayor que la indicada, en orden.
+     */
+    List<EventoAlmacenado> leerDesde(long despuesDePosicion, int limite);
+
+    /**
+     * Posicion global del ultimo evento confirmado, o 0 si el almacen esta vacio.
+     */
+    long ultimaPosicion();
+
+    /**
+     * Indica si alguna transaccion abierta tiene, o esta obteniendo, una posicion menor o igual
+     * que la indicada. Mientras sea cierto, un hueco hasta esa posicion aun puede rellenarse;
+     * cuando deja de serlo, lo confirmado ya es visible y lo que falte no llegara nunca.
+     */
+    boolean hayPendientesHasta(long posicion);
+}
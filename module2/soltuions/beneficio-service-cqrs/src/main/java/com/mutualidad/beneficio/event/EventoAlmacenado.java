@@ -0,0 +1,13 @@
+package com.mutualidad.beneficio.event;
+
+import lombok.Value;
+
+/**
+ * Evento leido del {@link EventStore} junto con su posicion global y su secuencia en el agregado.
+ */
+@Value
+public class EventoAlmacenado {
+    long posicion;
+    long secuencia;
+    BeneficioEvent evento;
+}
@@ -1,5 +1,7 @@
 package com.mutualidad.beneficio.infrastructure.config;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -44,4 +46,25 @@ public class GlobalExceptionHandler {
         response.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("message", "El beneficio ha sido modificado por otra operacion, reintente");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrity(DataIntegrityViolationException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        String causa = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase();
+        response.put("message", causa.contains("uk_beneficios_activo_afiliado_tipo")
+            ? "Ya existe un beneficio activo del mismo tipo para el afiliado"
+            : "La operacion viola una restriccion de integridad de datos");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
 }
@@ -1,107 +1,136 @@
 package com.mutualidad.beneficio.infrastructure.event;
 
 import com.mutualidad.beneficio.command.api.TipoBeneficio;
-import com.mutualidad.beneficio.command.domain.Beneficio;
-import com.mutualidad.beneficio.command.repository.BeneficioWriteRepository;
 import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
 import com.mutualidad.beneficio.event.BeneficioModificadoEvent;
 import com.mutualidad.beneficio.event.BeneficioRevocadoEvent;
+import com.mutualidad.beneficio.query.format.MontoFormatter;
 import com.mutualidad.beneficio.query.model.BeneficioReadModel;
 import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.NumberFormat;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.Locale;
-
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Proyecta los eventos de beneficio sobre {@link BeneficioReadModel}.
+ * Se invoca desde {@link ProjectionPipeline} con micro-lotes de eventos ya confirmados:
+ * los read models afectados se cargan con una sola consulta y se guardan en lote.
+ * Los eventos llevan el estado necesario, por lo que no se consulta el lado de escritura.
+ * La misma funcion ({@link #aplicar(List, Map)}) la usa la reconstruccion del lado de lectura,
+ * y todo lo que escribe sale del evento, asi que proyectar y reconstruir dan las mismas filas.
+ * En la misma transaccion se actualiza el resumen por afiliado ({@link ResumenBeneficiosProjection}).
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class BeneficioProjection {
 
     private final BeneficioReadRepository readRepository;
-    private final BeneficioWriteRepository writeRepository;
+    private final ResumenBeneficiosProjection resumenProjection;
+    private final MontoFormatter montoFormatter;
 
-    @EventListener
     @Transactional
-    public void on(BeneficioAsignadoEvent event) {
-        log.info("Proyectando BENEFICIO_ASIGNADO: {}", event.getBeneficioId());
+    public void project(List<BeneficioEvent> eventos) {
+        Set<String> ids = new LinkedHashSet<>();
+        eventos.forEach(e -> ids.add(e.getAggregateId()));
+
+        Map<String, BeneficioReadModel> readModels = new HashMap<>();
+        readRepository.findAllById(ids).forEach(rm -> readModels.put(rm.getId(), rm));
+
+        Map<String, ResumenBeneficiosProjection.Contribucion> previas = new HashMap<>();
+        readModels.values().forEach(rm -> previas.put(rm.getId(), ResumenBeneficiosProjection.Contribucion.de(rm)));
+
+        aplicar(eventos, readModels);
+
+        readRepository.saveAll(readModels.values());
+        resumenProjection.aplicar(previas, readModels.values());
+        log.debug("Proyectados {} eventos sobre {} read models", eventos.size(), readModels.size());
+    }
+
+    /**
+     * Aplica los eventos en orden sobre los read models indicados, por id, sin leer ni escribir
+     * en base de datos. Las asignaciones añaden su read model al mapa.
+     */
+    public void aplicar(List<BeneficioEvent> eventos, Map<String, BeneficioReadModel> readModels) {
+        for (BeneficioEvent evento : eventos) {
+            if (evento instanceof BeneficioAsignadoEvent asignado) {
+                on(asignado, readModels);
+            } else if (evento instanceof BeneficioModificadoEvent modificado) {
+                on(modificado, readModels);
+            } else if (evento instanceof BeneficioRevocadoEvent revocado) {
+                on(revocado, readModels);
+            } else {
+                log.warn("Evento sin proyeccion: {}", evento.getTipoEvento());
+            }
+        }
+    }
 
-        Beneficio beneficio = writeRepository.findById(event.getBeneficioId())
-            .orElseThrow(() -> new IllegalStateException("Beneficio no encontrado"));
+    private void on(BeneficioAsignadoEvent event, Map<String, BeneficioReadModel> readModels) {
+        log.debug("Proyectando BENEFICIO_ASIGNADO: {}", event.getBeneficioId());
 
-        TipoBeneficio tipo = beneficio.getTipoBeneficio();
+        BeneficioReadModel readModel = crearReadModel(event);
+        readModel.setNuevo(!readModels.containsKey(event.getBeneficioId()));
 
-        BeneficioReadModel readModel = BeneficioReadModel.builder()
-            .id(beneficio.getId())
-            .afiliadoId(beneficio.getAfiliadoId())
+        readModels.put(readModel.getId(), readModel);
+    }
+
+    // Construye el read model completo a partir del estado que lleva el evento
+    private BeneficioReadModel crearReadModel(BeneficioAsignadoEvent event) {
+        TipoBeneficio tipo = TipoBeneficio.valueOf(event.getTipoBeneficio());
+
+        return BeneficioReadModel.builder()
+            .id(event.getBeneficioId())
+            .afiliadoId(event.getAfiliadoId())
             .tipoBeneficio(tipo.name())
             .tipoBeneficioDescripcion(tipo.getDescripcion())
-            .estado(beneficio.getEstado().name())
-            .fechaInicio(beneficio.getFechaInicio())
-            .fechaFin(beneficio.getFechaFin())
-            .monto(beneficio.getMonto())
-            .montoFormateado(formatearMonto(beneficio.getMonto()))
-            .descripcion(beneficio.getDescripcion())
-            .estaVigente(beneficio.estaVigente(LocalDate.now()))
-            .diasRestantes(calcularDiasRestantes(beneficio.getFechaFin()))
-            .fechaCreacion(beneficio.getFechaCreacion())
-            .ultimaActualizacion(LocalDateTime.now())
+            .estado(event.getEstado())
+            .fechaInicio(event.getFechaInicio())
+            .fechaFin(event.getFechaFin())
+            .monto(event.getMonto())
+            .montoFormateado(montoFormatter.formatear(event.getMonto()))
+            .descripcion(event.getDescripcion())
+            .fechaCreacion(event.getFechaCreacion())
+            .ultimaActualizacion(ocurridoEn(event))
             .build();
-
-        readRepository.save(readModel);
-        log.info("Read model creado para beneficio: {}", beneficio.getId());
     }
 
-    @EventListener
-    @Transactional
-    public void on(BeneficioModificadoEvent event) {
-        log.info("Proyectando BENEFICIO_MODIFICADO: {}", event.getBeneficioId());
-
-        Beneficio beneficio = writeRepository.findById(event.getBeneficioId())
-            .orElseThrow(() -> new IllegalStateException("Beneficio no encontrado"));
-
-        readRepository.findById(event.getBeneficioId()).ifPresent(readModel -> {
-            readModel.setMonto(beneficio.getMonto());
-            readModel.setMontoFormateado(formatearMonto(beneficio.getMonto()));
-            readModel.setFechaFin(beneficio.getFechaFin());
-            readModel.setDescripcion(beneficio.getDescripcion());
-            readModel.setEstaVigente(beneficio.estaVigente(LocalDate.now()));
-            readModel.setDiasRestantes(calcularDiasRestantes(beneficio.getFechaFin()));
-            readModel.setUltimaActualizacion(LocalDateTime.now());
-            readRepository.save(readModel);
-        });
+    private void on(BeneficioModificadoEvent event, Map<String, BeneficioReadModel> readModels) {
+        log.debug("Proyectando BENEFICIO_MODIFICADO: {}", event.getBeneficioId());
+
+        BeneficioReadModel readModel = readModels.get(event.getBeneficioId());
+        if (readModel != null) {
+            readModel.setMonto(event.getMonto());
+            readModel.setMontoFormateado(montoFormatter.formatear(event.getMonto()));
+            readModel.setFechaFin(event.getFechaFin());
+            readModel.setDescripcion(event.getDescripcion());
+            readModel.setUltimaActualizacion(ocurridoEn(event));
+        }
     }
 
-    @EventListener
-    @Transactional
-    public void on(BeneficioRevocadoEvent event) {
-        log.info("Proyectando BENEFICIO_REVOCADO: {}", event.getBeneficioId());
+    private void on(BeneficioRevocadoEvent event, Map<String, BeneficioReadModel> readModels) {
+        log.debug("Proyectando BENEFICIO_REVOCADO: {}", event.getBeneficioId());
 
-        readRepository.findById(event.getBeneficioId()).ifPresent(readModel -> {
+        BeneficioReadModel readModel = readModels.get(event.getBeneficioId());
+        if (readModel != null) {
+            // Como en Beneficio.revocar: la revocacion cierra el beneficio en la fecha efectiva
             readModel.setEstado("REVOCADO");
-            readModel.setEstaVigente(false);
-            readModel.setDiasRestantes(null);
-            readModel.setUltimaActualizacion(LocalDateTime.now());
-            readRepository.save(readModel);
-        });
-    }
-
-    private String formatearMonto(java.math.BigDecimal monto) {
-        if (monto == null) return null;
-        NumberFormat formatter = NumberFormat.getCurrencyInstance(new Locale("es", "ES"));
-        return formatter.format(monto);
+            readModel.setFechaFin(event.getFechaEfectiva());
+            readModel.setUltimaActualizacion(ocurridoEn(event));
+        }
     }
 
-    private Integer calcularDiasRestantes(LocalDate fechaFin) {
-        if (fechaFin == null) return null;
-        long dias = ChronoUnit.DAYS.between(LocalDate.now(), fechaFin);
-        return dias >= 0 ? (int) dias : null;
+    // Del evento y no del reloj, para que una reconstruccion produzca el mismo valor
+    private static LocalDateTime ocurridoEn(BeneficioEvent event) {
+        return LocalDateTime.ofInstant(event.getOcurridoEn(), ZoneId.systemDefault());
     }
 }
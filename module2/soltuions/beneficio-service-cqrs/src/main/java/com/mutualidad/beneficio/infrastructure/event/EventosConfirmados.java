@@ -0,0 +1,12 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import lombok.Value;
+
+/**
+ * Aviso en memoria de que una transaccion ha confirmado eventos en el event store.
+ * No lleva los eventos: los consumidores los leen del store desde su checkpoint.
+ */
+@Value
+public class EventosConfirmados {
+    int eventos;
+}
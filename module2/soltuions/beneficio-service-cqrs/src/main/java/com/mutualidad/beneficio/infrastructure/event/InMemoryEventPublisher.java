@@ -2,23 +2,71 @@ package com.mutualidad.beneficio.infrastructure.event;
 
 import com.mutualidad.beneficio.event.BeneficioEvent;
 import com.mutualidad.beneficio.event.EventPublisher;
+import com.mutualidad.beneficio.event.EventStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Guarda el evento en el {@link EventStore} dentro de la transaccion del comando y, tras el
+ * commit, publica un unico {@link EventosConfirmados} por transaccion. Si se deshace no se
+ * publica nada.
+ * <p>
+ * El aviso solo despierta a los consumidores, que leen del store; no se encola ni se espera,
+ * asi que el hilo del comando nunca se bloquea despues del commit.
+ */
 @Component
 @Slf4j
 public class InMemoryEventPublisher implements EventPublisher {
 
+    private final EventStore eventStore;
     private final ApplicationEventPublisher applicationEventPublisher;
 
-    public InMemoryEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    public InMemoryEventPublisher(EventStore eventStore, ApplicationEventPublisher applicationEventPublisher) {
+        this.eventStore = eventStore;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public void publish(BeneficioEvent event) {
-        log.info("Publicando evento: {} para beneficio: {}", event.getTipoEvento(), event.getAggregateId());
-        applicationEventPublisher.publishEvent(event);
+        // append exige transaccion, asi que aqui siempre hay una sincronizacion activa
+        long posicion = eventStore.append(event);
+        log.info("Publicando evento: {} para beneficio: {} (posicion {})",
+            event.getTipoEvento(), event.getAggregateId(), posicion);
+        confirmadosDeLaTransaccion().incrementAndGet();
+    }
+
+    private AtomicInteger confirmadosDeLaTransaccion() {
+        AtomicInteger confirmados = (AtomicInteger) TransactionSynchronizationManager.getResource(this);
+        if (confirmados != null) {
+            return confirmados;
+        }
+        AtomicInteger nuevos = new AtomicInteger();
+        TransactionSynchronizationManager.bindResource(this, nuevos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                avisar(nuevos.get());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryEventPublisher.this);
+            }
+        });
+        return nuevos;
+    }
+
+    // El comando ya esta confirmado: el fallo de un listener no debe llegar al llamador
+    private void avisar(int eventos) {
+        try {
+            applicationEventPublisher.publishEvent(new EventosConfirmados(eventos));
+        } catch (RuntimeException e) {
+            log.error("Error avisando de {} eventos confirmados", eventos, e);
+        }
     }
 }
@@ -0,0 +1,285 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.EventStore;
+import com.mutualidad.beneficio.event.EventoAlmacenado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline asincrono de proyeccion del lado de lectura, alimentado desde el {@link EventStore}.
+ * <p>
+ * Un unico hilo proyector lee el log global a partir de su checkpoint en micro-lotes y los aplica
+ * con {@link BeneficioProjection#project(List)}. El checkpoint es la posicion global del ultimo
+ * evento aplicado y se guarda en {@code proyeccion_checkpoint} en la misma transaccion que los
+ * read models, por lo que tras un reinicio se continua exactamente donde se quedo.
+ * El aviso en memoria ({@link EventosConfirmados}, tras el commit) solo despierta al hilo;
+ * sin ella se sondea cada {@code poll-timeout-ms}.
+ * <p>
+ * Las posiciones se asignan antes del commit, asi que una transaccion lenta puede dejar un hueco
+ * que se rellena despues. El proyector no avanza sobre un hueco mientras el event store tenga
+ * transacciones abiertas que puedan rellenarlo ({@link EventStore#hayPendientesHasta(long)}), por
+ * mucho que tarden; solo salta las posiciones que ya no van a llegar.
+ * <p>
+ * Un evento que no se puede proyectar se aparca en {@code proyeccion_error} junto con el avance del
+ * checkpoint, se cuenta en {@code beneficio.projection.errors} y se registra como error; el resto
+ * sigue proyectandose. La reconstruccion del lado de lectura lo corrige.
+ * Las reconstrucciones del lado de lectura se ejecutan con {@link #ejecutarEnExclusiva(Supplier)}
+ * para no intercalarse con un lote.
+ */
+@Component
+@Slf4j
+public class ProjectionPipeline implements SmartLifecycle {
+
+    static final String NOMBRE = "beneficios_read";
+
+    private final BeneficioProjection projection;
+    private final EventStore eventStore;
+    private final ProyeccionCheckpointRepository checkpointRepository;
+    private final ProyeccionErrorRepository errorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pollTimeoutMs;
+
+    private final Semaphore senal = new Semaphore(0);
+    private final AtomicLong checkpoint = new AtomicLong();
+    private final Timer lag;
+    private final Counter errores;
+    private final ReentrantLock exclusion = new ReentrantLock();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ProjectionPipeline(BeneficioProjection projection,
+                              EventStore eventStore,
+                              ProyeccionCheckpointRepository checkpointRepository,
+                              ProyeccionErrorRepository errorRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${beneficio.projection.batch-size:100}") int batchSize,
+                              @Value("${beneficio.projection.poll-timeout-ms:200}") long pollTimeoutMs) {
+        this.projection = projection;
+        this.eventStore = eventStore;
+        this.checkpointRepository = checkpointRepository;
+        this.errorRepository = errorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollTimeoutMs = pollTimeoutMs;
+
+        Gauge.builder("beneficio.projection.checkpoint", checkpoint, AtomicLong::get)
+            .description("Posicion global del ultimo evento proyectado")
+            .register(meterRegistry);
+        Gauge.builder("beneficio.projection.lag.events", this, ProjectionPipeline::lagEventos)
+            .description("Eventos confirmados en el event store y aun no proyectados")
+            .register(meterRegistry);
+        this.lag = Timer.builder("beneficio.projection.lag")
+            .description("Tiempo entre que ocurre un evento y se proyecta")
+            .register(meterRegistry);
+        this.errores = Counter.builder("beneficio.projection.errors")
+            .description("Eventos que no se pudieron proyectar y quedan aparcados en proyeccion_error")
+            .register(meterRegistry);
+    }
+
+    // Lo publica InMemoryEventPublisher despues del commit; no bloquea
+    @EventListener
+    public void on(EventosConfirmados aviso) {
+        senal.release();
+    }
+
+    public long getCheckpoint() {
+        return checkpoint.get();
+    }
+
+    public long lagEventos() {
+        return Math.max(0, eventStore.ultimaPosicion() - checkpoint.get());
+    }
+
+    /**
+     * Espera a que se hayan proyectado todos los eventos confirmados hasta ahora.
+     *
+     * @return true si se alcanzo antes del timeout
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long objetivo = eventStore.ultimaPosicion();
+        long limite = System.nanoTime() + timeout.toNanos();
+        while (checkpoint.get() < objetivo) {
+            if (System.nanoTime() > limite) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Ejecuta la tarea mientras el hilo proyector no aplica ningun lote.
+     * Los eventos que lleguen mientras tanto esperan en el event store.
+     */
+    public <T> T ejecutarEnExclusiva(Supplier<T> tarea) {
+        exclusion.lock();
+        try {
+            return tarea.get();
+        } finally {
+            exclusion.unlock();
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                List<EventoAlmacenado> lote = contiguos(eventStore.leerDesde(checkpoint.get(), batchSize));
+                if (lote.isEmpty()) {
+                    senal.tryAcquire(pollTimeoutMs, TimeUnit.MILLISECONDS);
+                    senal.drainPermits();
+                    continue;
+                }
+                aplicar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error en el proyector desde la posicion {}", checkpoint.get(), e);
+                try {
+                    Thread.sleep(pollTimeoutMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Prefijo del lote sin huecos a partir del checkpoint. Un hueco al principio se espera mientras
+     * alguna transaccion abierta pueda rellenarlo; si ninguna puede, se vuelve a leer (lo confirmado
+     * entre tanto ya es visible) y lo que siga faltando se salta.
+     */
+    private List<EventoAlmacenado> contiguos(List<EventoAlmacenado> lote) {
+        if (lote.isEmpty()) {
+            return lote;
+        }
+        long siguiente = checkpoint.get() + 1;
+        if (lote.get(0).getPosicion() != siguiente) {
+            if (eventStore.hayPendientesHasta(lote.get(0).getPosicion() - 1)) {
+                return List.of();
+            }
+            lote = eventStore.leerDesde(checkpoint.get(), batchSize);
+            if (lote.get(0).getPosicion() != siguiente) {
+                log.debug("Posiciones {}..{} sin evento ni transacciones abiertas, se saltan",
+                    siguiente, lote.get(0).getPosicion() - 1);
+            }
+        }
+        int fin = 1;
+        while (fin < lote.size() && lote.get(fin).getPosicion() == lote.get(fin - 1).getPosicion() + 1) {
+            fin++;
+        }
+        return lote.subList(0, fin);
+    }
+
+    private void aplicar(List<EventoAlmacenado> lote) {
+        List<BeneficioEvent> eventos = new ArrayList<>(lote.size());
+        lote.forEach(e -> eventos.add(e.getEvento()));
+        exclusion.lock();
+        try {
+            proyectar(eventos, lote.get(lote.size() - 1).getPosicion());
+        } catch (RuntimeException e) {
+            // Si falla el lote se reintenta evento a evento para aislar el que falla
+            log.warn("Fallo proyectando lote de {} eventos, reintentando individualmente: {}",
+                lote.size(), e.getMessage());
+            for (EventoAlmacenado almacenado : lote) {
+                BeneficioEvent evento = almacenado.getEvento();
+                try {
+                    proyectar(List.of(evento), almacenado.getPosicion());
+                } catch (RuntimeException ex) {
+                    log.error("No se pudo proyectar {} para beneficio {} (posicion {}), se aparca en proyeccion_error",
+                        evento.getTipoEvento(), evento.getAggregateId(), almacenado.getPosicion(), ex);
+                    aparcar(almacenado, ex);
+                }
+            }
+        } finally {
+            exclusion.unlock();
+        }
+        Instant ahora = Instant.now();
+        for (BeneficioEvent evento : eventos) {
+            lag.record(Duration.between(evento.getOcurridoEn(), ahora));
+        }
+    }
+
+    private void proyectar(List<BeneficioEvent> eventos, long posicion) {
+        avanzar(posicion, () -> projection.project(eventos));
+    }
+
+    private void aparcar(EventoAlmacenado almacenado, RuntimeException causa) {
+        BeneficioEvent evento = almacenado.getEvento();
+        String error = String.valueOf(causa);
+        avanzar(almacenado.getPosicion(), () -> errorRepository.save(ProyeccionError.builder()
+            .posicion(almacenado.getPosicion())
+            .proyeccion(NOMBRE)
+            .aggregateId(evento.getAggregateId())
+            .tipoEvento(evento.getTipoEvento())
+            .error(error.length() > 1000 ? error.substring(0, 1000) : error)
+            .aparcadoEn(LocalDateTime.now())
+            .build()));
+        errores.increment();
+    }
+
+    // Aplica los cambios y mueve el checkpoint en la misma transaccion
+    private void avanzar(long posicion, Runnable cambios) {
+        transactionTemplate.executeWithoutResult(status -> {
+            cambios.run();
+            checkpointRepository.save(ProyeccionCheckpoint.builder()
+                .nombre(NOMBRE)
+                .posicion(posicion)
+                .actualizadoEn(LocalDateTime.now())
+                .build());
+        });
+        checkpoint.set(posicion);
+    }
+
+    @Override
+    public void start() {
+        checkpoint.set(checkpointRepository.findById(NOMBRE).map(ProyeccionCheckpoint::getPosicion).orElse(0L));
+        running = true;
+        worker = new Thread(this::runLoop, "beneficio-projector");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        senal.release();
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
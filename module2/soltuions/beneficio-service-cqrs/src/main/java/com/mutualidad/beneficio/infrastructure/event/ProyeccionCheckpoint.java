@@ -0,0 +1,31 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Posicion global del event store hasta la que una proyeccion ha aplicado los eventos.
+ * Se guarda en la misma transaccion que los read models.
+ */
+@Entity
+@Table(name = "proyeccion_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProyeccionCheckpoint {
+
+    @Id
+    private String nombre;
+
+    @Column(nullable = false)
+    private long posicion;
+
+    @Column(name = "actualizado_en", nullable = false)
+    private LocalDateTime actualizadoEn;
+}
@@ -0,0 +1,8 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProyeccionCheckpointRepository extends JpaRepository<ProyeccionCheckpoint, String> {
+}
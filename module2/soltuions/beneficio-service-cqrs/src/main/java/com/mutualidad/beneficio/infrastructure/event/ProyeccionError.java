@@ -0,0 +1,41 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Evento que la proyeccion no pudo aplicar. Se aparca aqui, en la misma transaccion que el
+ * avance del checkpoint, para que no bloquee al resto; se corrige con una reconstruccion del
+ * lado de lectura, que vacia la tabla.
+ */
+@Entity
+@Table(name = "proyeccion_error")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProyeccionError {
+
+    @Id
+    private Long posicion;
+
+    @Column(nullable = false)
+    private String proyeccion;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "tipo_evento", nullable = false)
+    private String tipoEvento;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "aparcado_en", nullable = false)
+    private LocalDateTime aparcadoEn;
+}
@@ -0,0 +1,12 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProyeccionErrorRepository extends JpaRepository<ProyeccionError, Long> {
+
+    List<ProyeccionError> findAllByOrderByPosicionAsc();
+}
@@ -0,0 +1,121 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.model.ResumenBeneficiosReadModel;
+import com.mutualidad.beneficio.query.repository.ResumenBeneficiosReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mantiene {@link ResumenBeneficiosReadModel} de forma incremental.
+ * <p>
+ * {@link BeneficioProjection} entrega, por cada read model del micro-lote, su contribucion
+ * antes de aplicar los eventos y su estado final; aqui se resta la primera y se suma la
+ * segunda sobre el resumen del afiliado. Solo se leen y escriben los resumenes afectados.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumenBeneficiosProjection {
+
+    private final ResumenBeneficiosReadRepository repository;
+
+    @Transactional
+    public void aplicar(Map<String, Contribucion> previas, Collection<BeneficioReadModel> actuales) {
+        List<BeneficioReadModel> cambiados = new ArrayList<>();
+        Set<String> afiliados = new LinkedHashSet<>();
+        for (BeneficioReadModel readModel : actuales) {
+            if (!Contribucion.de(readModel).equals(previas.get(readModel.getId()))) {
+                cambiados.add(readModel);
+                afiliados.add(readModel.getAfiliadoId());
+            }
+        }
+        if (cambiados.isEmpty()) {
+            return;
+        }
+
+        Map<String, ResumenBeneficiosReadModel> resumenes = new HashMap<>();
+        repository.findAllById(afiliados).forEach(r -> resumenes.put(r.getAfiliadoId(), r));
+
+        for (BeneficioReadModel readModel : cambiados) {
+            Contribucion antes = previas.get(readModel.getId());
+            if (antes != null) {
+                acumular(resumenes, antes, -1);
+            }
+            acumular(resumenes, Contribucion.de(readModel), 1);
+        }
+
+        repository.saveAll(resumenes.values());
+        log.debug("Actualizados {} resumenes de beneficios", resumenes.size());
+    }
+
+    /**
+     * Reconstruye todos los resumenes desde beneficios_read.
+     *
+     * @return numero de afiliados con resumen
+     */
+    @Transactional
+    public int reconstruir() {
+        long inicio = System.currentTimeMillis();
+        repository.deleteAllInBatch();
+        int filas = repository.reconstruirDesdeBeneficios();
+        log.info("Resumenes de beneficios reconstruidos: {} afiliados en {} ms",
+            filas, System.currentTimeMillis() - inicio);
+        return filas;
+    }
+
+    private void acumular(Map<String, ResumenBeneficiosReadModel> resumenes, Contribucion contribucion, int signo) {
+        ResumenBeneficiosReadModel resumen = resumenes.computeIfAbsent(contribucion.getAfiliadoId(),
+            afiliadoId -> ResumenBeneficiosReadModel.builder()
+                .afiliadoId(afiliadoId)
+                .montoTotalActivo(BigDecimal.ZERO)
+                .nuevo(true)
+                .build());
+
+        switch (contribucion.getEstado()) {
+            case "ACTIVO":
+                resumen.setBeneficiosActivos(resumen.getBeneficiosActivos() + signo);
+                BigDecimal monto = contribucion.getMonto() != null ? contribucion.getMonto() : BigDecimal.ZERO;
+                resumen.setMontoTotalActivo(signo > 0
+                    ? resumen.getMontoTotalActivo().add(monto)
+                    : resumen.getMontoTotalActivo().subtract(monto));
+                break;
+            case "SUSPENDIDO":
+                resumen.setBeneficiosSuspendidos(resumen.getBeneficiosSuspendidos() + signo);
+                break;
+            case "REVOCADO":
+                resumen.setBeneficiosRevocados(resumen.getBeneficiosRevocados() + signo);
+                break;
+            default:
+                // Otros estados (EXPIRADO) no cuentan en el resumen
+                return;
+        }
+        resumen.setTotalBeneficios(resumen.getTotalBeneficios() + signo);
+    }
+
+    /**
+     * Parte de un beneficio que aporta al resumen de su afiliado.
+     */
+    @Value
+    public static class Contribucion {
+        String afiliadoId;
+        String estado;
+        BigDecimal monto;
+
+        public static Contribucion de(BeneficioReadModel readModel) {
+            return new Contribucion(readModel.getAfiliadoId(), readModel.getEstado(), readModel.getMonto());
+        }
+    }
+}
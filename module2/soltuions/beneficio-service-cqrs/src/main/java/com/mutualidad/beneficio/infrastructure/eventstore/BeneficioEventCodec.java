@@ -0,0 +1,84 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.BeneficioModificadoEvent;
+import com.mutualidad.beneficio.event.BeneficioRevocadoEvent;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioEntity;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioEntityMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializa a JSON los eventos del event store y las snapshots de beneficio.
+ * El tipo del evento se guarda en su propia columna y decide la clase al leer.
+ * Las snapshots reutilizan la forma de {@link BeneficioEntity}.
+ */
+@Component
+public class BeneficioEventCodec {
+
+    private static final Map<String, Class<? extends BeneficioEvent>> TIPOS = Map.of(
+        "BENEFICIO_ASIGNADO", BeneficioAsignadoEvent.class,
+        "BENEFICIO_MODIFICADO", BeneficioModificadoEvent.class,
+        "BENEFICIO_REVOCADO", BeneficioRevocadoEvent.class
+    );
+
+    private final ObjectWriter writer;
+    private final Map<String, ObjectReader> readers = new HashMap<>();
+    private final ObjectReader snapshotReader;
+    private final BeneficioEntityMapper entityMapper;
+
+    public BeneficioEventCodec(ObjectMapper objectMapper, BeneficioEntityMapper entityMapper) {
+        this.writer = objectMapper.writer();
+        // tipoEvento y aggregateId se serializan como getters pero no forman parte del constructor
+        TIPOS.forEach((tipo, clase) -> readers.put(tipo,
+            objectMapper.readerFor(clase).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)));
+        this.snapshotReader = objectMapper.readerFor(BeneficioEntity.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.entityMapper = entityMapper;
+    }
+
+    public String serializar(BeneficioEvent evento) {
+        try {
+            return writer.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar " + evento.getTipoEvento(), e);
+        }
+    }
+
+    public BeneficioEvent deserializar(String tipoEvento, String payload) {
+        ObjectReader reader = readers.get(tipoEvento);
+        if (reader == null) {
+            throw new IllegalStateException("Tipo de evento desconocido en el event store: " + tipoEvento);
+        }
+        try {
+            return reader.readValue(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer " + tipoEvento, e);
+        }
+    }
+
+    public String serializarSnapshot(Beneficio beneficio) {
+        try {
+            return writer.writeValueAsString(entityMapper.toEntity(beneficio));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la snapshot de " + beneficio.getId(), e);
+        }
+    }
+
+    public Beneficio deserializarSnapshot(String payload) {
+        try {
+            return entityMapper.toDomain(snapshotReader.readValue(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer la snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.command.domain.BeneficioAggregate;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reconstruye un beneficio desde el event store: parte de su ultima snapshot (si existe)
+ * y aplica solo los eventos posteriores. Las snapshots las pide {@link JpaEventStore}
+ * cada {@code beneficio.eventstore.snapshot-cada} eventos y se toman fuera de la transaccion
+ * del comando, lo que acota el coste de rehidratar sin cargarlo en la escritura.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BeneficioRehydrator {
+
+    private final EventoAlmacenadoJpaRepository eventoRepository;
+    private final BeneficioSnapshotJpaRepository snapshotRepository;
+    private final BeneficioEventCodec codec;
+
+    @Transactional(readOnly = true)
+    public Optional<Beneficio> rehidratar(String beneficioId) {
+        return Optional.ofNullable(cargar(beneficioId).getBeneficio());
+    }
+
+    @Transactional
+    public void tomarSnapshot(String beneficioId) {
+        Estado estado = cargar(beneficioId);
+        if (estado.getBeneficio() == null) {
+            return;
+        }
+        snapshotRepository.save(BeneficioSnapshotEntity.builder()
+            .aggregateId(beneficioId)
+            .secuencia(estado.getSecuencia())
+            .payload(codec.serializarSnapshot(estado.getBeneficio()))
+            .creadoEn(LocalDateTime.now())
+            .build());
+        log.debug("Snapshot del beneficio {} en la secuencia {}", beneficioId, estado.getSecuencia());
+    }
+
+    private Estado cargar(String beneficioId) {
+        Optional<BeneficioSnapshotEntity> snapshot = snapshotRepository.findById(beneficioId);
+        Beneficio base = snapshot.map(s -> codec.deserializarSnapshot(s.getPayload())).orElse(null);
+        long secuencia = snapshot.map(BeneficioSnapshotEntity::getSecuencia).orElse(0L);
+
+        List<EventoAlmacenadoEntity> filas = eventoRepository
+            .findByAggregateIdAndSecuenciaGreaterThanOrderBySecuenciaAsc(beneficioId, secuencia);
+        List<BeneficioEvent> eventos = new ArrayList<>(filas.size());
+        for (EventoAlmacenadoEntity fila : filas) {
+            eventos.add(codec.deserializar(fila.getTipoEvento(), fila.getPayload()));
+            secuencia = fila.getSecuencia();
+        }
+        return new Estado(BeneficioAggregate.rehidratar(base, eventos), secuencia);
+    }
+
+    @lombok.Value
+    private static class Estado {
+        Beneficio beneficio;
+        long secuencia;
+    }
+}
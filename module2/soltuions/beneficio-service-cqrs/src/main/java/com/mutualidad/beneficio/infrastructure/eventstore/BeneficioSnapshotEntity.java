@@ -0,0 +1,35 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Ultima snapshot del estado de un beneficio: el resultado de aplicar su stream
+ * hasta {@code secuencia}. Rehidratar solo necesita los eventos posteriores.
+ */
+@Entity
+@Table(name = "beneficio_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeneficioSnapshotEntity {
+
+    @Id
+    @Column(name = "aggregate_id")
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private long secuencia;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "creado_en", nullable = false)
+    private LocalDateTime creadoEn;
+}
@@ -0,0 +1,8 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BeneficioSnapshotJpaRepository extends JpaRepository<BeneficioSnapshotEntity, String> {
+}
@@ -0,0 +1,45 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Fila del event store. Solo se inserta: nunca se actualiza ni se borra.
+ * La restriccion unica (aggregate_id, secuencia) impide que dos escrituras concurrentes
+ * añadan la misma secuencia al stream de un beneficio.
+ */
+@Entity
+@Table(name = "event_store", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_event_store_aggregate_secuencia", columnNames = {"aggregate_id", "secuencia"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoAlmacenadoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_store_seq")
+    @SequenceGenerator(name = "event_store_seq", sequenceName = "event_store_seq", allocationSize = 50)
+    private Long posicion;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private long secuencia;
+
+    @Column(name = "tipo_evento", nullable = false)
+    private String tipoEvento;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "ocurrido_en", nullable = false)
+    private Instant ocurridoEn;
+}
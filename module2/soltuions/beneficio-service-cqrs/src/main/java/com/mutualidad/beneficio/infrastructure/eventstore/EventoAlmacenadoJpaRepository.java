@@ -0,0 +1,25 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventoAlmacenadoJpaRepository extends JpaRepository<EventoAlmacenadoEntity, Long> {
+
+    // Stream de un beneficio sobre el indice unico (aggregate_id, secuencia)
+    List<EventoAlmacenadoEntity> findByAggregateIdAndSecuenciaGreaterThanOrderBySecuenciaAsc(String aggregateId, long secuencia);
+
+    @Query("select max(e.secuencia) from EventoAlmacenadoEntity e where e.aggregateId = :aggregateId")
+    Optional<Long> findUltimaSecuencia(String aggregateId);
+
+    // Lectura del log global por keyset sobre la clave primaria
+    List<EventoAlmacenadoEntity> findByPosicionGreaterThanOrderByPosicionAsc(long posicion, Pageable pageable);
+
+    @Query("select coalesce(max(e.posicion), 0) from EventoAlmacenadoEntity e")
+    long findUltimaPosicion();
+}
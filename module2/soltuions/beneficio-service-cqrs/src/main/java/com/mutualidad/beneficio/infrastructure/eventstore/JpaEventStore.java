@@ -0,0 +1,180 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.EventStore;
+import com.mutualidad.beneficio.event.EventoAlmacenado;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event store sobre la tabla {@code event_store}.
+ * <p>
+ * El append se hace en la transaccion del comando, de modo que el evento y el cambio en
+ * {@code beneficios} se confirman o se descartan juntos. La posicion global sale de una
+ * secuencia: es creciente pero puede tener huecos (transacciones deshechas, bloques de la
+ * secuencia sin usar) y las transacciones concurrentes pueden confirmarse fuera de orden.
+ * <p>
+ * Para que el consumidor
+ * ({@link com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline}) distinga un hueco
+ * definitivo de uno que aun se va a rellenar, las posiciones asignadas se registran en memoria
+ * hasta que su transaccion termina. Solo se ven las transacciones de esta instancia: el servicio
+ * escribe y proyecta desde un unico proceso.
+ * <p>
+ * Cada {@code beneficio.eventstore.snapshot-cada} eventos de un stream se pide una snapshot.
+ * Se toma despues del commit en un hilo aparte, asi el comando no paga la relectura del stream;
+ * si la cola esta llena se descarta, la siguiente la sustituye.
+ */
+@Component
+@Slf4j
+public class JpaEventStore implements EventStore {
+
+    private final EventoAlmacenadoJpaRepository repository;
+    private final BeneficioEventCodec codec;
+    private final BeneficioRehydrator rehydrator;
+    private final int snapshotCada;
+
+    // Posiciones asignadas por transacciones aun abiertas
+    private final ConcurrentSkipListSet<Long> enVuelo = new ConcurrentSkipListSet<>();
+    // Appends que estan obteniendo posicion y todavia no la han registrado
+    private final AtomicInteger asignando = new AtomicInteger();
+    // Un solo hilo: las snapshots de un mismo beneficio nunca se escriben a la vez
+    private final ThreadPoolExecutor snapshots = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1000), r -> {
+            Thread hilo = new Thread(r, "beneficio-snapshots");
+            hilo.setDaemon(true);
+            return hilo;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public JpaEventStore(EventoAlmacenadoJpaRepository repository,
+                         BeneficioEventCodec codec,
+                         BeneficioRehydrator rehydrator,
+                         @Value("${beneficio.eventstore.snapshot-cada:20}") int snapshotCada) {
+        this.repository = repository;
+        this.codec = codec;
+        this.rehydrator = rehydrator;
+        this.snapshotCada = snapshotCada;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long append(BeneficioEvent event) {
+        // La asignacion abre el stream; el resto de eventos continua desde la ultima secuencia
+        long secuencia = event instanceof BeneficioAsignadoEvent
+            ? 1
+            : repository.findUltimaSecuencia(event.getAggregateId()).orElse(0L) + 1;
+
+        EventoAlmacenadoEntity guardado;
+        asignando.incrementAndGet();
+        try {
+            guardado = repository.save(EventoAlmacenadoEntity.builder()
+                .aggregateId(event.getAggregateId())
+                .secuencia(secuencia)
+                .tipoEvento(event.getTipoEvento())
+                .payload(codec.serializar(event))
+                .ocurridoEn(event.getOcurridoEn())
+                .build());
+            // Se registra antes de dejar de contar como asignando para no abrir una ventana sin rastro
+            registrarEnVuelo(guardado.getPosicion());
+        } finally {
+            asignando.decrementAndGet();
+        }
+
+        if (snapshotCada > 0 && secuencia % snapshotCada == 0) {
+            programarSnapshot(event.getAggregateId());
+        }
+        return guardado.getPosicion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BeneficioEvent> cargar(String aggregateId, long despuesDeSecuencia) {
+        List<EventoAlmacenadoEntity> filas = repository
+            .findByAggregateIdAndSecuenciaGreaterThanOrderBySecuenciaAsc(aggregateId, despuesDeSecuencia);
+        List<BeneficioEvent> eventos = new ArrayList<>(filas.size());
+        filas.forEach(f -> eventos.add(codec.deserializar(f.getTipoEvento(), f.getPayload())));
+        return eventos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventoAlmacenado> leerDesde(long despuesDePosicion, int limite) {
+        List<EventoAlmacenadoEntity> filas = repository
+            .findByPosicionGreaterThanOrderByPosicionAsc(despuesDePosicion, PageRequest.of(0, limite));
+        List<EventoAlmacenado> eventos = new ArrayList<>(filas.size());
+        filas.forEach(f -> eventos.add(new EventoAlmacenado(
+            f.getPosicion(), f.getSecuencia(), codec.deserializar(f.getTipoEvento(), f.getPayload()))));
+        return eventos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long ultimaPosicion() {
+        return repository.findUltimaPosicion();
+    }
+
+    @Override
+    public boolean hayPendientesHasta(long posicion) {
+        if (asignando.get() > 0) {
+            return true;
+        }
+        return enVuelo.floor(posicion) != null;
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        snapshots.shutdownNow();
+    }
+
+    // Tras un rollback el evento no existe y no hay nada que capturar
+    private void programarSnapshot(String aggregateId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshots.execute(() -> {
+                    try {
+                        rehydrator.tomarSnapshot(aggregateId);
+                    } catch (RuntimeException e) {
+                        log.warn("No se pudo tomar la snapshot del beneficio {}: {}", aggregateId, e.getMessage());
+                    }
+                });
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registrarEnVuelo(long posicion) {
+        enVuelo.add(posicion);
+        List<Long> posiciones = (List<Long>) TransactionSynchronizationManager.getResource(enVuelo);
+        if (posiciones != null) {
+            posiciones.add(posicion);
+            return;
+        }
+        List<Long> nuevas = new ArrayList<>();
+        nuevas.add(posicion);
+        TransactionSynchronizationManager.bindResource(enVuelo, nuevas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Tras el commit las filas ya son visibles; tras un rollback no existiran nunca
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(enVuelo);
+                nuevas.forEach(enVuelo::remove);
+            }
+        });
+    }
+}
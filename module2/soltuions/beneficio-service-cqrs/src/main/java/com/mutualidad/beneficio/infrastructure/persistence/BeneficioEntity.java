@@ -11,7 +11,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "beneficios")
+@Table(name = "beneficios", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_beneficios_activo_afiliado_tipo", columnNames = "clave_activo")
+}, indexes = {
+    @Index(name = "idx_beneficios_afiliado_estado", columnList = "afiliado_id, estado")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -64,4 +68,23 @@ public class BeneficioEntity {
 
     @Column(name = "suspendido_por")
     private String suspendidoPor;
+
+    @Version
+    private Long version;
+
+    // Solo tiene valor mientras el beneficio esta ACTIVO: la restriccion unica sobre esta columna
+    // equivale al indice unico parcial (afiliado_id, tipo_beneficio) WHERE estado = 'ACTIVO',
+    // que H2 no soporta (los NULL no colisionan)
+    @Column(name = "clave_activo")
+    private String claveActivo;
+
+    public static String claveActivo(String afiliadoId, String tipoBeneficio) {
+        return afiliadoId + "|" + tipoBeneficio;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void actualizarClaveActivo() {
+        this.claveActivo = "ACTIVO".equals(estado) ? claveActivo(afiliadoId, tipoBeneficio) : null;
+    }
 }
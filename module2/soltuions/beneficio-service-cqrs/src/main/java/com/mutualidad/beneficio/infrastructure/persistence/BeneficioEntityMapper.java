@@ -26,6 +26,7 @@ public class BeneficioEntityMapper {
             .fechaSuspension(beneficio.getFechaSuspension())
             .motivoSuspension(beneficio.getMotivoSuspension())
             .suspendidoPor(beneficio.getSuspendidoPor())
+            .version(beneficio.getVersion())
             .build();
     }
 
@@ -47,6 +48,7 @@ public class BeneficioEntityMapper {
             .fechaSuspension(entity.getFechaSuspension())
             .motivoSuspension(entity.getMotivoSuspension())
             .suspendidoPor(entity.getSuspendidoPor())
+            .version(entity.getVersion())
             .build();
     }
 }
@@ -3,11 +3,18 @@ package com.mutualidad.beneficio.infrastructure.persistence;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BeneficioJpaRepository extends JpaRepository<BeneficioEntity, String> {
     List<BeneficioEntity> findByAfiliadoIdAndTipoBeneficioAndEstado(String afiliadoId, String tipoBeneficio, String estado);
     List<BeneficioEntity> findByAfiliadoId(String afiliadoId);
     List<BeneficioEntity> findByAfiliadoIdAndEstado(String afiliadoId, String estado);
+
+    // Busqueda del beneficio activo sobre el indice unico de clave_activo
+    Optional<BeneficioEntity> findByClaveActivo(String claveActivo);
+
+    List<BeneficioEntity> findByAfiliadoIdInAndEstado(Collection<String> afiliadoIds, String estado);
 }
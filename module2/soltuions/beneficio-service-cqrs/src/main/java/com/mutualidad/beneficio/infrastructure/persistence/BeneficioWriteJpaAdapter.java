@@ -6,16 +6,22 @@ import com.mutualidad.beneficio.command.repository.BeneficioWriteRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class BeneficioWriteJpaAdapter implements BeneficioWriteRepository {
 
+    private static final int FLUSH_CADA = 1000;
+    private static final int MAX_IN = 1000;
+
     private final BeneficioJpaRepository jpaRepository;
     private final BeneficioEntityMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public Beneficio save(Beneficio beneficio) {
@@ -24,6 +30,24 @@ public class BeneficioWriteJpaAdapter implements BeneficioWriteRepository {
         return mapper.toDomain(saved);
     }
 
+    /**
+     * Guarda en la transaccion actual; con version null cada entidad se inserta con persist
+     * (sin SELECT previo) y Hibernate agrupa los INSERT en lotes JDBC. El contexto de
+     * persistencia se vacia cada {@link #FLUSH_CADA} entidades para no crecer con el lote.
+     */
+    @Override
+    public List<Beneficio> saveAll(List<Beneficio> beneficios) {
+        List<Beneficio> guardados = new ArrayList<>(beneficios.size());
+        for (int i = 0; i < beneficios.size(); i++) {
+            guardados.add(mapper.toDomain(jpaRepository.save(mapper.toEntity(beneficios.get(i)))));
+            if ((i + 1) % FLUSH_CADA == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return guardados;
+    }
+
     @Override
     public Optional<Beneficio> findById(String id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
@@ -31,10 +55,22 @@ public class BeneficioWriteJpaAdapter implements BeneficioWriteRepository {
 
     @Override
     public List<Beneficio> findActivosByAfiliadoAndTipo(String afiliadoId, TipoBeneficio tipo) {
-        return jpaRepository.findByAfiliadoIdAndTipoBeneficioAndEstado(afiliadoId, tipo.name(), "ACTIVO")
-            .stream()
+        return jpaRepository.findByClaveActivo(BeneficioEntity.claveActivo(afiliadoId, tipo.name()))
             .map(mapper::toDomain)
-            .collect(Collectors.toList());
+            .map(List::of)
+            .orElse(List.of());
+    }
+
+    @Override
+    public List<Beneficio> findActivosByAfiliados(Collection<String> afiliadoIds) {
+        List<String> ids = new ArrayList<>(afiliadoIds);
+        List<Beneficio> activos = new ArrayList<>();
+        for (int desde = 0; desde < ids.size(); desde += MAX_IN) {
+            List<String> tramo = ids.subList(desde, Math.min(desde + MAX_IN, ids.size()));
+            jpaRepository.findByAfiliadoIdInAndEstado(tramo, "ACTIVO")
+                .forEach(entity -> activos.add(mapper.toDomain(entity)));
+        }
+        return activos;
     }
 
     @Override
@@ -0,0 +1,330 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.EventStore;
+import com.mutualidad.beneficio.event.EventoAlmacenado;
+import com.mutualidad.beneficio.infrastructure.event.BeneficioProjection;
+import com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline;
+import com.mutualidad.beneficio.infrastructure.event.ProyeccionError;
+import com.mutualidad.beneficio.infrastructure.event.ProyeccionErrorRepository;
+import com.mutualidad.beneficio.infrastructure.event.ResumenBeneficiosProjection;
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reconstruye beneficios_read desde el event store.
+ * <p>
+ * Lee el log global en chunks por posicion hasta la posicion del {@link ProjectionPipeline},
+ * reparte cada chunk por beneficio entre las tareas de un {@link ForkJoinPool} y aplica los eventos
+ * con la misma funcion que la proyeccion incremental ({@link BeneficioProjection#aplicar(List, Map)})
+ * sobre una tabla sombra, con lecturas e inserts JDBC en lote. Al terminar, la tabla sombra sustituye
+ * a la actual, se recalculan los resumenes y se vacian los eventos aparcados en {@code proyeccion_error}
+ * que esta vez se han podido aplicar. Tras cada chunk se guarda la posicion alcanzada, de modo que una
+ * ejecucion interrumpida puede reanudarse.
+ * <p>
+ * Los eventos llevan valores absolutos (no incrementos), asi que volver a aplicar en orden los eventos
+ * de un chunk que se quedo a medias deja la tabla sombra igual que si se hubiera aplicado una vez.
+ * <p>
+ * Se ejecuta en exclusiva con el {@link ProjectionPipeline}: los eventos posteriores a su posicion
+ * esperan en el event store y se aplican sobre la tabla ya reconstruida.
+ */
+@Service
+@Slf4j
+public class ReadModelReplayService {
+
+    static final String CHECKPOINT = "beneficios_read";
+    static final String TABLA = "beneficios_read";
+    static final String TABLA_SOMBRA = "beneficios_read_shadow";
+    static final String TABLA_ANTERIOR = "beneficios_read_old";
+
+    private static final String INSERT = "INSERT INTO " + TABLA_SOMBRA + " (id, afiliado_id, tipo_beneficio, "
+        + "tipo_beneficio_descripcion, estado, fecha_inicio, fecha_fin, monto, monto_formateado, descripcion, "
+        + "fecha_creacion, ultima_actualizacion) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final RowMapper<BeneficioReadModel> FILA = (rs, n) -> BeneficioReadModel.builder()
+        .id(rs.getString("id"))
+        .afiliadoId(rs.getString("afiliado_id"))
+        .tipoBeneficio(rs.getString("tipo_beneficio"))
+        .tipoBeneficioDescripcion(rs.getString("tipo_beneficio_descripcion"))
+        .estado(rs.getString("estado"))
+        .fechaInicio(rs.getObject("fecha_inicio", LocalDate.class))
+        .fechaFin(rs.getObject("fecha_fin", LocalDate.class))
+        .monto(rs.getBigDecimal("monto"))
+        .montoFormateado(rs.getString("monto_formateado"))
+        .descripcion(rs.getString("descripcion"))
+        .fechaCreacion(rs.getObject("fecha_creacion", LocalDate.class))
+        .ultimaActualizacion(rs.getObject("ultima_actualizacion", LocalDateTime.class))
+        .build();
+
+    // Mismos indices que declara la entidad
+    private static final Index[] INDICES = BeneficioReadModel.class.getAnnotation(Table.class).indexes();
+
+    private final BeneficioProjection projection;
+    private final ResumenBeneficiosProjection resumenProjection;
+    private final ProjectionPipeline projectionPipeline;
+    private final EventStore eventStore;
+    private final ReplayCheckpointRepository checkpointRepository;
+    private final ProyeccionErrorRepository errorRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int paralelismo;
+
+    private final AtomicBoolean enCurso = new AtomicBoolean();
+
+    public ReadModelReplayService(BeneficioProjection projection,
+                                  ResumenBeneficiosProjection resumenProjection,
+                                  ProjectionPipeline projectionPipeline,
+                                  EventStore eventStore,
+                                  ReplayCheckpointRepository checkpointRepository,
+                                  ProyeccionErrorRepository errorRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${beneficio.replay.chunk-size:1000}") int chunkSize,
+                                  @Value("${beneficio.replay.paralelismo:4}") int paralelismo) {
+        this.projection = projection;
+        this.resumenProjection = resumenProjection;
+        this.projectionPipeline = projectionPipeline;
+        this.eventStore = eventStore;
+        this.checkpointRepository = checkpointRepository;
+        this.errorRepository = errorRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * @param reanudar si existe un checkpoint, continua desde el en lugar de empezar de cero
+     */
+    public ReplayResult reconstruir(boolean reanudar) {
+        if (!enCurso.compareAndSet(false, true)) {
+            throw new ReconstruccionEnCursoException();
+        }
+        try {
+            return projectionPipeline.ejecutarEnExclusiva(() -> ejecutar(reanudar));
+        } finally {
+            enCurso.set(false);
+        }
+    }
+
+    private ReplayResult ejecutar(boolean reanudar) {
+        ReplayCheckpoint checkpoint = reanudar ? checkpointRepository.findById(CHECKPOINT).orElse(null) : null;
+        boolean reanudado = checkpoint != null;
+        if (reanudado) {
+            log.info("Reanudando reconstruccion de {} desde la posicion {} ({} eventos aplicados)",
+                TABLA, checkpoint.getPosicion(), checkpoint.getEventosProcesados());
+        } else {
+            crearTablaSombra();
+            LocalDateTime ahora = LocalDateTime.now();
+            checkpoint = checkpointRepository.save(ReplayCheckpoint.builder()
+                .nombre(CHECKPOINT)
+                .posicion(0)
+                .iniciadoEn(ahora)
+                .actualizadoEn(ahora)
+                .build());
+            log.info("Iniciando reconstruccion de {} (chunk={}, paralelismo={})", TABLA, chunkSize, paralelismo);
+        }
+
+        // La tabla actual refleja el log hasta aqui; lo posterior lo aplica el proyector al terminar
+        long hasta = projectionPipeline.getCheckpoint();
+        Set<Long> fallidos = ConcurrentHashMap.newKeySet();
+        long inicio = System.nanoTime();
+        long eventosEjecucion = 0;
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            long posicion = checkpoint.getPosicion();
+            while (posicion < hasta) {
+                List<EventoAlmacenado> eventos = hastaPosicion(eventStore.leerDesde(posicion, chunkSize), hasta);
+                if (eventos.isEmpty()) {
+                    break;
+                }
+                aplicarChunk(pool, eventos, fallidos);
+                posicion = eventos.get(eventos.size() - 1).getPosicion();
+                eventosEjecucion += eventos.size();
+
+                checkpoint.setPosicion(posicion);
+                checkpoint.setEventosProcesados(checkpoint.getEventosProcesados() + eventos.size());
+                checkpoint.setActualizadoEn(LocalDateTime.now());
+                checkpoint = checkpointRepository.save(checkpoint);
+                log.debug("Reconstruccion de {}: {} eventos (posicion {})",
+                    TABLA, checkpoint.getEventosProcesados(), posicion);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        intercambiarTablas();
+        checkpointRepository.deleteById(CHECKPOINT);
+        descartarErroresCorregidos(fallidos);
+        int afiliados = resumenProjection.reconstruir();
+        Long filas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLA, Long.class);
+
+        long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+        long eventosPorSegundo = duracionMs > 0 ? eventosEjecucion * 1000 / duracionMs : eventosEjecucion;
+        log.info("Reconstruccion de {} completada: {} eventos, {} filas en {} ms ({} eventos/s)",
+            TABLA, checkpoint.getEventosProcesados(), filas, duracionMs, eventosPorSegundo);
+
+        return ReplayResult.builder()
+            .reanudado(reanudado)
+            .eventos(checkpoint.getEventosProcesados())
+            .eventosEstaEjecucion(eventosEjecucion)
+            .filas(filas != null ? filas : 0)
+            .duracionMs(duracionMs)
+            .eventosPorSegundo(eventosPorSegundo)
+            .afiliadosResumen(afiliados)
+            .fallidos(fallidos.size())
+            .build();
+    }
+
+    private static List<EventoAlmacenado> hastaPosicion(List<EventoAlmacenado> eventos, long hasta) {
+        int fin = 0;
+        while (fin < eventos.size() && eventos.get(fin).getPosicion() <= hasta) {
+            fin++;
+        }
+        return eventos.subList(0, fin);
+    }
+
+    // Todos los eventos de un beneficio los aplica la misma tarea, en el orden del log
+    private void aplicarChunk(ForkJoinPool pool, List<EventoAlmacenado> eventos, Set<Long> fallidos) {
+        Map<Integer, List<EventoAlmacenado>> particiones = new HashMap<>();
+        for (EventoAlmacenado almacenado : eventos) {
+            int particion = Math.floorMod(almacenado.getEvento().getAggregateId().hashCode(), paralelismo);
+            particiones.computeIfAbsent(particion, p -> new ArrayList<>()).add(almacenado);
+        }
+
+        List<Callable<Void>> tareas = new ArrayList<>();
+        particiones.values().forEach(particion -> tareas.add(() -> {
+            aplicar(particion, fallidos);
+            return null;
+        }));
+        try {
+            for (Future<Void> resultado : pool.invokeAll(tareas)) {
+                resultado.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstruccion interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fallo escribiendo en " + TABLA_SOMBRA, e.getCause());
+        }
+    }
+
+    private void aplicar(List<EventoAlmacenado> eventos, Set<Long> fallidos) {
+        Set<String> ids = new LinkedHashSet<>();
+        eventos.forEach(e -> ids.add(e.getEvento().getAggregateId()));
+
+        Map<String, BeneficioReadModel> readModels = new HashMap<>();
+        leerSombra(ids).forEach(rm -> readModels.put(rm.getId(), rm));
+
+        for (EventoAlmacenado almacenado : eventos) {
+            BeneficioEvent evento = almacenado.getEvento();
+            try {
+                projection.aplicar(List.of(evento), readModels);
+            } catch (RuntimeException e) {
+                // Sigue aparcado en proyeccion_error, igual que en la proyeccion incremental
+                log.error("No se pudo aplicar {} del beneficio {} (posicion {}) en la reconstruccion",
+                    evento.getTipoEvento(), evento.getAggregateId(), almacenado.getPosicion(), e);
+                fallidos.add(almacenado.getPosicion());
+            }
+        }
+        escribir(readModels.values());
+    }
+
+    private List<BeneficioReadModel> leerSombra(Set<String> ids) {
+        String marcadores = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query("SELECT * FROM " + TABLA_SOMBRA + " WHERE id IN (" + marcadores + ")",
+            FILA, ids.toArray());
+    }
+
+    private void escribir(Iterable<BeneficioReadModel> valores) {
+        List<BeneficioReadModel> readModels = new ArrayList<>();
+        valores.forEach(readModels::add);
+        if (readModels.isEmpty()) {
+            return;
+        }
+        List<Object[]> borrados = new ArrayList<>(readModels.size());
+        readModels.forEach(rm -> borrados.add(new Object[]{rm.getId()}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("DELETE FROM " + TABLA_SOMBRA + " WHERE id = ?", borrados);
+            jdbcTemplate.batchUpdate(INSERT, readModels, readModels.size(), (ps, rm) -> {
+                ps.setString(1, rm.getId());
+                ps.setString(2, rm.getAfiliadoId());
+                ps.setString(3, rm.getTipoBeneficio());
+                ps.setString(4, rm.getTipoBeneficioDescripcion());
+                ps.setString(5, rm.getEstado());
+                ps.setObject(6, rm.getFechaInicio(), Types.DATE);
+                ps.setObject(7, rm.getFechaFin(), Types.DATE);
+                ps.setBigDecimal(8, rm.getMonto());
+                ps.setString(9, rm.getMontoFormateado());
+                ps.setString(10, rm.getDescripcion());
+                ps.setObject(11, rm.getFechaCreacion(), Types.DATE);
+                ps.setObject(12, rm.getUltimaActualizacion(), Types.TIMESTAMP);
+            });
+        });
+    }
+
+    // La tabla nueva refleja todos los eventos aparcados salvo los que han vuelto a fallar
+    private void descartarErroresCorregidos(Set<Long> fallidos) {
+        List<ProyeccionError> corregidos = new ArrayList<>();
+        for (ProyeccionError error : errorRepository.findAll()) {
+            if (!fallidos.contains(error.getPosicion())) {
+                corregidos.add(error);
+            }
+        }
+        errorRepository.deleteAllInBatch(corregidos);
+    }
+
+    private void crearTablaSombra() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLA_SOMBRA);
+        jdbcTemplate.execute("CREATE TABLE " + TABLA_SOMBRA + " AS SELECT * FROM " + TABLA + " WITH NO DATA");
+        jdbcTemplate.execute("ALTER TABLE " + TABLA_SOMBRA + " ADD PRIMARY KEY (id)");
+        // Los nombres de indice son globales al esquema: se crean con sufijo y se renombran tras el cambio
+        for (Index indice : INDICES) {
+            jdbcTemplate.execute("CREATE INDEX " + indice.name() + "_shadow ON " + TABLA_SOMBRA
+                + " (" + indice.columnList() + ")");
+        }
+    }
+
+    // En PostgreSQL los RENAME son transaccionales y el cambio es atomico para los lectores;
+    // H2 confirma cada DDL por separado, asi que alli la ventana es de dos sentencias.
+    private void intercambiarTablas() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLA_ANTERIOR);
+            jdbcTemplate.execute("ALTER TABLE " + TABLA + " RENAME TO " + TABLA_ANTERIOR);
+            jdbcTemplate.execute("ALTER TABLE " + TABLA_SOMBRA + " RENAME TO " + TABLA);
+            jdbcTemplate.execute("DROP TABLE " + TABLA_ANTERIOR);
+            for (Index indice : INDICES) {
+                jdbcTemplate.execute("ALTER INDEX " + indice.name() + "_shadow RENAME TO " + indice.name());
+            }
+        });
+        log.info("Tabla {} sustituida por {}", TABLA, TABLA_SOMBRA);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+/**
+ * Se ha pedido una reconstruccion del lado de lectura mientras otra sigue en marcha.
+ */
+public class ReconstruccionEnCursoException extends IllegalStateException {
+
+    public ReconstruccionEnCursoException() {
+        super("Ya hay una reconstruccion del lado de lectura en curso");
+    }
+}
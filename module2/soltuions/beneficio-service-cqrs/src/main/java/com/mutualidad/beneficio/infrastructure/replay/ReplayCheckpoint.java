@@ -0,0 +1,37 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progreso de una reconstruccion del lado de lectura: posicion global del ultimo evento
+ * cuyo chunk se ha aplicado completo sobre la tabla sombra.
+ */
+@Entity
+@Table(name = "replay_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayCheckpoint {
+
+    @Id
+    private String nombre;
+
+    @Column(nullable = false)
+    private long posicion;
+
+    @Column(name = "eventos_procesados", nullable = false)
+    private long eventosProcesados;
+
+    @Column(name = "iniciado_en", nullable = false)
+    private LocalDateTime iniciadoEn;
+
+    @Column(name = "actualizado_en", nullable = false)
+    private LocalDateTime actualizadoEn;
+}
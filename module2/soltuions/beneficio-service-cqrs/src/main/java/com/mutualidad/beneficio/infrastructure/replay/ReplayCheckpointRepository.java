@@ -0,0 +1,8 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReplayCheckpointRepository extends JpaRepository<ReplayCheckpoint, String> {
+}
@@ -0,0 +1,18 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReplayResult {
+    boolean reanudado;
+    long eventos;
+    long eventosEstaEjecucion;
+    long filas;
+    long duracionMs;
+    long eventosPorSegundo;
+    int afiliadosResumen;
+    // Eventos que tampoco se han podido aplicar esta vez; siguen en proyeccion_error
+    int fallidos;
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/beneficios/commands")
@@ -14,6 +15,7 @@ import javax.validation.Valid;
 public class BeneficioCommandController {
 
     private final AsignarBeneficioHandler asignarHandler;
+    private final AsignarBeneficiosLoteHandler asignarLoteHandler;
     private final RevocarBeneficioHandler revocarHandler;
     private final ModificarBeneficioHandler modificarHandler;
 
@@ -26,6 +28,11 @@ public class BeneficioCommandController {
         return ResponseEntity.badRequest().body(result);
     }
 
+    @PostMapping("/asignar/lote")
+    public ResponseEntity<List<CommandResult>> asignarLote(@Valid @RequestBody AsignarBeneficiosLoteCommand command) {
+        return ResponseEntity.ok(asignarLoteHandler.handle(command));
+    }
+
     @PostMapping("/revocar")
     public ResponseEntity<CommandResult> revocar(@Valid @RequestBody RevocarBeneficioCommand command) {
         CommandResult result = revocarHandler.handle(command);
@@ -4,6 +4,7 @@ import com.mutualidad.beneficio.query.api.BuscarBeneficiosQuery;
 import com.mutualidad.beneficio.query.handler.BuscarBeneficiosHandler;
 import com.mutualidad.beneficio.query.handler.ResumenBeneficiosHandler;
 import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.model.PaginaBeneficios;
 import com.mutualidad.beneficio.query.model.ResumenBeneficiosReadModel;
 import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/beneficios/queries")
 @RequiredArgsConstructor
@@ -39,6 +42,32 @@ public class BeneficioQueryController {
         return ResponseEntity.ok(buscarHandler.handle(query));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaBeneficios> buscarPorCursor(
+            @RequestParam String afiliadoId,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean incluirTotal) {
+
+        BuscarBeneficiosQuery query = BuscarBeneficiosQuery.builder()
+            .afiliadoId(afiliadoId)
+            .estado(estado)
+            .tipo(tipo)
+            .cursor(cursor)
+            .size(size)
+            .incluirTotal(incluirTotal)
+            .build();
+
+        return ResponseEntity.ok(buscarHandler.handleCursor(query));
+    }
+
+    @GetMapping("/vigentes/{afiliadoId}")
+    public ResponseEntity<List<BeneficioReadModel>> vigentes(@PathVariable String afiliadoId) {
+        return ResponseEntity.ok(buscarHandler.handleVigentes(afiliadoId));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BeneficioReadModel> obtenerPorId(@PathVariable String id) {
         return readRepository.findById(id)
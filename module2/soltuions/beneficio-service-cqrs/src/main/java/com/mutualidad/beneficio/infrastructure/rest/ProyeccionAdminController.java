@@ -0,0 +1,62 @@
+package com.mutualidad.beneficio.infrastructure.rest;
+
+import com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline;
+import com.mutualidad.beneficio.infrastructure.event.ProyeccionError;
+import com.mutualidad.beneficio.infrastructure.event.ProyeccionErrorRepository;
+import com.mutualidad.beneficio.infrastructure.event.ResumenBeneficiosProjection;
+import com.mutualidad.beneficio.infrastructure.replay.ReadModelReplayService;
+import com.mutualidad.beneficio.infrastructure.replay.ReconstruccionEnCursoException;
+import com.mutualidad.beneficio.infrastructure.replay.ReplayResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operaciones de mantenimiento del lado de lectura.
+ */
+@RestController
+@RequestMapping("/api/v1/beneficios/admin")
+@RequiredArgsConstructor
+public class ProyeccionAdminController {
+
+    private final ProjectionPipeline projectionPipeline;
+    private final ResumenBeneficiosProjection resumenProjection;
+    private final ReadModelReplayService replayService;
+    private final ProyeccionErrorRepository errorRepository;
+
+    @PostMapping("/resumen/reconstruir")
+    public ResponseEntity<Map<String, Object>> reconstruirResumen() {
+        long inicio = System.currentTimeMillis();
+        int afiliados = projectionPipeline.ejecutarEnExclusiva(resumenProjection::reconstruir);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("afiliados", afiliados);
+        response.put("duracionMs", System.currentTimeMillis() - inicio);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/proyeccion/errores")
+    public ResponseEntity<List<ProyeccionError>> erroresProyeccion() {
+        return ResponseEntity.ok(errorRepository.findAllByOrderByPosicionAsc());
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<ReplayResult> replay(@RequestParam(defaultValue = "false") boolean reanudar) {
+        return ResponseEntity.ok(replayService.reconstruir(reanudar));
+    }
+
+    @ExceptionHandler(ReconstruccionEnCursoException.class)
+    public ResponseEntity<Map<String, Object>> reconstruccionEnCurso(ReconstruccionEnCursoException ex) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mutualidad.beneficio.query.api;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posicion de continuacion en la paginacion por keyset: ultimo (fechaInicio, id) devuelto.
+ * Se entrega al cliente como token opaco; la primera pagina no lleva cursor.
+ */
+@Value
+public class BeneficioCursor {
+
+    LocalDate fechaInicio;
+    String id;
+
+    public String codificar() {
+        String valor = fechaInicio + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BeneficioCursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor no valido");
+            }
+            return new BeneficioCursor(LocalDate.parse(valor.substring(0, separador)), valor.substring(separador + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor no valido", e);
+        }
+    }
+}
@@ -20,4 +20,9 @@ public class BuscarBeneficiosQuery {
 
     @Builder.Default
     int size = 20;
+
+    // Solo para la busqueda por cursor: token opaco de la pagina anterior (null en la primera)
+    String cursor;
+
+    boolean incluirTotal;
 }
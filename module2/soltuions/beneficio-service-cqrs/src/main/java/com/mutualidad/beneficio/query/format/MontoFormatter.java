@@ -0,0 +1,84 @@
+package com.mutualidad.beneficio.query.format;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Formateo de importes en euros (es-ES) para los read models.
+ * <p>
+ * {@link NumberFormat} es caro de crear y no es thread-safe. Aqui se leen una vez los
+ * simbolos, prefijos/sufijos, tamano de grupo y redondeo del formato de moneda del locale,
+ * y cada llamada solo construye la cadena: la clase es inmutable y se comparte entre hilos.
+ * El resultado coincide con {@code NumberFormat.getCurrencyInstance(locale).format(monto)}.
+ */
+@Component
+public class MontoFormatter {
+
+    private static final Locale ES_ES = new Locale("es", "ES");
+
+    private final String prefijoPositivo;
+    private final String sufijoPositivo;
+    private final String prefijoNegativo;
+    private final String sufijoNegativo;
+    private final char separadorMiles;
+    private final char separadorDecimal;
+    private final int tamanoGrupo;
+    private final int decimales;
+    private final RoundingMode redondeo;
+
+    public MontoFormatter() {
+        this(ES_ES);
+    }
+
+    MontoFormatter(Locale locale) {
+        DecimalFormat prototipo = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+        DecimalFormatSymbols simbolos = prototipo.getDecimalFormatSymbols();
+        this.prefijoPositivo = prototipo.getPositivePrefix();
+        this.sufijoPositivo = prototipo.getPositiveSuffix();
+        this.prefijoNegativo = prototipo.getNegativePrefix();
+        this.sufijoNegativo = prototipo.getNegativeSuffix();
+        this.separadorMiles = simbolos.getMonetaryGroupingSeparator();
+        this.separadorDecimal = simbolos.getMonetaryDecimalSeparator();
+        this.tamanoGrupo = prototipo.isGroupingUsed() ? prototipo.getGroupingSize() : 0;
+        // En formatos de moneda el minimo y el maximo de decimales coinciden
+        this.decimales = prototipo.getMaximumFractionDigits();
+        this.redondeo = prototipo.getRoundingMode();
+    }
+
+    public String formatear(BigDecimal monto) {
+        if (monto == null) return null;
+
+        BigDecimal redondeado = monto.setScale(decimales, redondeo);
+        boolean negativo = redondeado.signum() < 0;
+        String digitos = redondeado.unscaledValue().abs().toString();
+        int enteros = digitos.length() - decimales;
+
+        StringBuilder sb = new StringBuilder(digitos.length() + digitos.length() / 3 + 8);
+        sb.append(negativo ? prefijoNegativo : prefijoPositivo);
+        if (enteros <= 0) {
+            sb.append('0');
+        } else {
+            for (int i = 0; i < enteros; i++) {
+                if (i > 0 && tamanoGrupo > 0 && (enteros - i) % tamanoGrupo == 0) {
+                    sb.append(separadorMiles);
+                }
+                sb.append(digitos.charAt(i));
+            }
+        }
+        if (decimales > 0) {
+            sb.append(separadorDecimal);
+            for (int i = enteros; i < 0; i++) {
+                sb.append('0');
+            }
+            sb.append(digitos, Math.max(enteros, 0), digitos.length());
+        }
+        sb.append(negativo ? sufijoNegativo : sufijoPositivo);
+        return sb.toString();
+    }
+}
@@ -1,16 +1,22 @@
 package com.mutualidad.beneficio.query.handler;
 
+import com.mutualidad.beneficio.query.api.BeneficioCursor;
 import com.mutualidad.beneficio.query.api.BuscarBeneficiosQuery;
 import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.model.PaginaBeneficios;
 import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,8 +25,12 @@ public class BuscarBeneficiosHandler {
 
     private final BeneficioReadRepository repository;
 
+    @Value("${beneficio.query.max-page-size:100}")
+    private int maxPageSize;
+
     public Page<BeneficioReadModel> handle(BuscarBeneficiosQuery query) {
         log.debug("Buscando beneficios para afiliado: {}", query.getAfiliadoId());
+        validarTamano(query.getSize());
 
         PageRequest pageRequest = PageRequest.of(
             query.getPage(),
@@ -38,4 +48,81 @@ public class BuscarBeneficiosHandler {
 
         return repository.findByAfiliadoId(query.getAfiliadoId(), pageRequest);
     }
+
+    /**
+     * Beneficios vigentes hoy. La vigencia depende del dia de la consulta, asi que se filtra
+     * en la query y no con un campo guardado en la tabla.
+     */
+    public List<BeneficioReadModel> handleVigentes(String afiliadoId) {
+        log.debug("Buscando beneficios vigentes para afiliado: {}", afiliadoId);
+        return repository.findVigentes(afiliadoId, LocalDate.now());
+    }
+
+    /**
+     * Busqueda por keyset sobre (fechaInicio, id) descendente: coste constante en paginas
+     * profundas y sin COUNT salvo que se pida el total.
+     */
+    public PaginaBeneficios handleCursor(BuscarBeneficiosQuery query) {
+        log.debug("Buscando beneficios por cursor para afiliado: {}", query.getAfiliadoId());
+        validarTamano(query.getSize());
+
+        // Se pide una fila de mas para saber si hay pagina siguiente
+        PageRequest limite = PageRequest.of(0, query.getSize() + 1);
+        List<BeneficioReadModel> filas = query.getCursor() != null
+            ? siguientes(query, BeneficioCursor.decodificar(query.getCursor()), limite)
+            : primeros(query, limite);
+
+        boolean hayMas = filas.size() > query.getSize();
+        List<BeneficioReadModel> contenido = hayMas ? filas.subList(0, query.getSize()) : filas;
+        BeneficioReadModel ultimo = contenido.isEmpty() ? null : contenido.get(contenido.size() - 1);
+
+        return PaginaBeneficios.builder()
+            .contenido(contenido)
+            .hayMas(hayMas)
+            .siguienteCursor(hayMas ? new BeneficioCursor(ultimo.getFechaInicio(), ultimo.getId()).codificar() : null)
+            .total(query.isIncluirTotal() ? contar(query) : null)
+            .build();
+    }
+
+    private void validarTamano(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("El tamaño de pagina debe ser mayor que cero");
+        }
+        if (size > maxPageSize) {
+            throw new IllegalArgumentException("El tamaño de pagina no puede superar " + maxPageSize);
+        }
+    }
+
+    private List<BeneficioReadModel> primeros(BuscarBeneficiosQuery query, PageRequest limite) {
+        if (query.getEstado() != null) {
+            return repository.findPrimerosPorEstado(query.getAfiliadoId(), query.getEstado(), limite);
+        }
+        if (query.getTipo() != null) {
+            return repository.findPrimerosPorTipo(query.getAfiliadoId(), query.getTipo(), limite);
+        }
+        return repository.findPrimeros(query.getAfiliadoId(), limite);
+    }
+
+    private List<BeneficioReadModel> siguientes(BuscarBeneficiosQuery query, BeneficioCursor cursor,
+                                                PageRequest limite) {
+        if (query.getEstado() != null) {
+            return repository.findSiguientesPorEstado(query.getAfiliadoId(), query.getEstado(),
+                cursor.getFechaInicio(), cursor.getId(), limite);
+        }
+        if (query.getTipo() != null) {
+            return repository.findSiguientesPorTipo(query.getAfiliadoId(), query.getTipo(),
+                cursor.getFechaInicio(), cursor.getId(), limite);
+        }
+        return repository.findSiguientes(query.getAfiliadoId(), cursor.getFechaInicio(), cursor.getId(), limite);
+    }
+
+    private long contar(BuscarBeneficiosQuery query) {
+        if (query.getEstado() != null) {
+            return repository.countByAfiliadoIdAndEstado(query.getAfiliadoId(), query.getEstado());
+        }
+        if (query.getTipo() != null) {
+            return repository.countByAfiliadoIdAndTipoBeneficio(query.getAfiliadoId(), query.getTipo());
+        }
+        return repository.countByAfiliadoId(query.getAfiliadoId());
+    }
 }
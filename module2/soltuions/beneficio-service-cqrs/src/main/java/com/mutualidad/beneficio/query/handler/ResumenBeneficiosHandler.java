@@ -1,15 +1,14 @@
 package com.mutualidad.beneficio.query.handler;
 
+import com.mutualidad.beneficio.query.format.MontoFormatter;
 import com.mutualidad.beneficio.query.model.ResumenBeneficiosReadModel;
-import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
+import com.mutualidad.beneficio.query.repository.ResumenBeneficiosReadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.text.NumberFormat;
-import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -17,30 +16,19 @@ import java.util.Locale;
 @Transactional(readOnly = true)
 public class ResumenBeneficiosHandler {
 
-    private final BeneficioReadRepository repository;
+    private final ResumenBeneficiosReadRepository repository;
+    private final MontoFormatter montoFormatter;
 
     public ResumenBeneficiosReadModel handle(String afiliadoId) {
-        log.debug("Generando resumen de beneficios para: {}", afiliadoId);
+        log.debug("Consultando resumen de beneficios para: {}", afiliadoId);
 
-        long activos = repository.countByAfiliadoIdAndEstado(afiliadoId, "ACTIVO");
-        long suspendidos = repository.countByAfiliadoIdAndEstado(afiliadoId, "SUSPENDIDO");
-        long revocados = repository.countByAfiliadoIdAndEstado(afiliadoId, "REVOCADO");
+        ResumenBeneficiosReadModel resumen = repository.findById(afiliadoId)
+            .orElseGet(() -> ResumenBeneficiosReadModel.builder()
+                .afiliadoId(afiliadoId)
+                .montoTotalActivo(BigDecimal.ZERO)
+                .build());
 
-        BigDecimal montoTotal = repository.sumMontoActivoByAfiliado(afiliadoId);
-        if (montoTotal == null) {
-            montoTotal = BigDecimal.ZERO;
-        }
-
-        NumberFormat formatter = NumberFormat.getCurrencyInstance(new Locale("es", "ES"));
-
-        return ResumenBeneficiosReadModel.builder()
-            .afiliadoId(afiliadoId)
-            .totalBeneficios((int)(activos + suspendidos + revocados))
-            .beneficiosActivos((int) activos)
-            .beneficiosSuspendidos((int) suspendidos)
-            .beneficiosRevocados((int) revocados)
-            .montoTotalActivo(montoTotal)
-            .montoTotalFormateado(formatter.format(montoTotal))
-            .build();
+        resumen.setMontoTotalFormateado(montoFormatter.formatear(resumen.getMontoTotalActivo()));
+        return resumen;
     }
 }
@@ -1,22 +1,31 @@
 package com.mutualidad.beneficio.query.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "beneficios_read")
+@Table(name = "beneficios_read", indexes = {
+    @Index(name = "idx_beneficios_read_afiliado_fecha", columnList = "afiliado_id, fecha_inicio"),
+    @Index(name = "idx_beneficios_read_afiliado_estado_fecha", columnList = "afiliado_id, estado, fecha_inicio"),
+    @Index(name = "idx_beneficios_read_afiliado_tipo_fecha", columnList = "afiliado_id, tipo_beneficio, fecha_inicio")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class BeneficioReadModel {
+public class BeneficioReadModel implements Persistable<String> {
 
     @Id
     private String id;
@@ -47,15 +56,56 @@ public class BeneficioReadModel {
 
     private String descripcion;
 
-    @Column(name = "esta_vigente")
-    private boolean estaVigente;
-
-    @Column(name = "dias_restantes")
-    private Integer diasRestantes;
-
     @Column(name = "fecha_creacion")
     private LocalDate fechaCreacion;
 
     @Column(name = "ultima_actualizacion")
     private LocalDateTime ultimaActualizacion;
+
+    // Permite insertar en lote sin el SELECT previo que hace merge() con IDs asignados
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean nuevo = false;
+
+    /**
+     * Se calcula al leer: un valor guardado en la proyeccion quedaria desfasado al cambiar el dia.
+     */
+    public boolean isEstaVigente() {
+        return estaVigenteEn(LocalDate.now());
+    }
+
+    public Integer getDiasRestantes() {
+        return diasRestantesEn(LocalDate.now());
+    }
+
+    // Misma regla que Beneficio.estaVigente
+    public boolean estaVigenteEn(LocalDate fecha) {
+        if (!"ACTIVO".equals(estado)) {
+            return false;
+        }
+        boolean despuesDeInicio = !fecha.isBefore(fechaInicio);
+        boolean antesDeFinOIndefinido = fechaFin == null || !fecha.isAfter(fechaFin);
+        return despuesDeInicio && antesDeFinOIndefinido;
+    }
+
+    public Integer diasRestantesEn(LocalDate fecha) {
+        if (fechaFin == null || "REVOCADO".equals(estado)) return null;
+        long dias = ChronoUnit.DAYS.between(fecha, fechaFin);
+        return dias >= 0 ? (int) dias : null;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return nuevo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.nuevo = false;
+    }
 }
@@ -0,0 +1,20 @@
+package com.mutualidad.beneficio.query.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Pagina de la busqueda por cursor. {@code total} solo se informa si el cliente lo pide.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaBeneficios {
+    List<BeneficioReadModel> contenido;
+    String siguienteCursor;
+    boolean hayMas;
+    Long total;
+}
@@ -1,22 +1,74 @@
 package com.mutualidad.beneficio.query.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.*;
 import java.math.BigDecimal;
 
+/**
+ * Resumen materializado por afiliado. Lo mantiene de forma incremental
+ * {@code ResumenBeneficiosProjection}, de modo que la consulta es una lectura por clave primaria.
+ */
+@Entity
+@Table(name = "resumen_beneficios_read")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ResumenBeneficiosReadModel {
+public class ResumenBeneficiosReadModel implements Persistable<String> {
+
+    @Id
+    @Column(name = "afiliado_id")
     private String afiliadoId;
+
+    @Column(name = "total_beneficios", nullable = false)
     private int totalBeneficios;
+
+    @Column(name = "beneficios_activos", nullable = false)
     private int beneficiosActivos;
+
+    @Column(name = "beneficios_suspendidos", nullable = false)
     private int beneficiosSuspendidos;
+
+    @Column(name = "beneficios_revocados", nullable = false)
     private int beneficiosRevocados;
+
+    @Column(name = "monto_total_activo", precision = 14, scale = 2, nullable = false)
     private BigDecimal montoTotalActivo;
+
+    // Se formatea al consultar
+    @Transient
     private String montoTotalFormateado;
+
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean nuevo = false;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return afiliadoId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return nuevo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.nuevo = false;
+    }
 }
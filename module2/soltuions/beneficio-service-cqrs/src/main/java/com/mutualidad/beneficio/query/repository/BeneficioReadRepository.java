@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -19,11 +19,46 @@ public interface BeneficioReadRepository extends JpaRepository<BeneficioReadMode
 
     Page<BeneficioReadModel> findByAfiliadoIdAndTipoBeneficio(String afiliadoId, String tipoBeneficio, Pageable pageable);
 
-    List<BeneficioReadModel> findByAfiliadoIdAndEstaVigenteTrue(String afiliadoId);
+    // La vigencia depende del dia de la consulta, por eso no se guarda en la tabla
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.estado = 'ACTIVO' "
+        + "AND b.fechaInicio <= :hoy AND (b.fechaFin IS NULL OR b.fechaFin >= :hoy)")
+    List<BeneficioReadModel> findVigentes(String afiliadoId, LocalDate hoy);
+
+    // Paginacion por keyset sobre (fechaInicio, id) descendente; el Pageable solo limita filas.
+    // La primera pagina no tiene cursor y se lee sin predicado de keyset.
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findPrimeros(String afiliadoId, Pageable limite);
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.estado = :estado "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findPrimerosPorEstado(String afiliadoId, String estado, Pageable limite);
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.tipoBeneficio = :tipo "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findPrimerosPorTipo(String afiliadoId, String tipo, Pageable limite);
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId "
+        + "AND (b.fechaInicio < :fechaInicio OR (b.fechaInicio = :fechaInicio AND b.id < :id)) "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findSiguientes(String afiliadoId, LocalDate fechaInicio, String id, Pageable limite);
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.estado = :estado "
+        + "AND (b.fechaInicio < :fechaInicio OR (b.fechaInicio = :fechaInicio AND b.id < :id)) "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findSiguientesPorEstado(String afiliadoId, String estado,
+                                                     LocalDate fechaInicio, String id, Pageable limite);
+
+    @Query("SELECT b FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.tipoBeneficio = :tipo "
+        + "AND (b.fechaInicio < :fechaInicio OR (b.fechaInicio = :fechaInicio AND b.id < :id)) "
+        + "ORDER BY b.fechaInicio DESC, b.id DESC")
+    List<BeneficioReadModel> findSiguientesPorTipo(String afiliadoId, String tipo,
+                                                   LocalDate fechaInicio, String id, Pageable limite);
+
+    long countByAfiliadoId(String afiliadoId);
 
-    @Query("SELECT COUNT(b) FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.estado = :estado")
     long countByAfiliadoIdAndEstado(String afiliadoId, String estado);
 
-    @Query("SELECT COALESCE(SUM(b.monto), 0) FROM BeneficioReadModel b WHERE b.afiliadoId = :afiliadoId AND b.estado = 'ACTIVO'")
-    BigDecimal sumMontoActivoByAfiliado(String afiliadoId);
+    long countByAfiliadoIdAndTipoBeneficio(String afiliadoId, String tipoBeneficio);
 }
@@ -0,0 +1,28 @@
+package com.mutualidad.beneficio.query.repository;
+
+import com.mutualidad.beneficio.query.model.ResumenBeneficiosReadModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumenBeneficiosReadRepository extends JpaRepository<ResumenBeneficiosReadModel, String> {
+
+    /**
+     * Recalcula todos los resumenes a partir de beneficios_read en una unica sentencia.
+     * La tabla de resumenes debe estar vacia.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resumen_beneficios_read (afiliado_id, total_beneficios, beneficios_activos, "
+        + "beneficios_suspendidos, beneficios_revocados, monto_total_activo) "
+        + "SELECT afiliado_id, "
+        + "SUM(CASE WHEN estado IN ('ACTIVO', 'SUSPENDIDO', 'REVOCADO') THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'ACTIVO' THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'SUSPENDIDO' THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'REVOCADO' THEN 1 ELSE 0 END), "
+        + "COALESCE(SUM(CASE WHEN estado = 'ACTIVO' THEN monto ELSE 0 END), 0) "
+        + "FROM beneficios_read GROUP BY afiliado_id",
+        nativeQuery = true)
+    int reconstruirDesdeBeneficios();
+}
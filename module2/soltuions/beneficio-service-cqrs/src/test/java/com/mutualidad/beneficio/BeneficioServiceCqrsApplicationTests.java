@@ -4,6 +4,7 @@ import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
 import com.mutualidad.beneficio.command.api.CommandResult;
 import com.mutualidad.beneficio.command.api.TipoBeneficio;
 import com.mutualidad.beneficio.command.handler.AsignarBeneficioHandler;
+import com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline;
 import com.mutualidad.beneficio.query.model.BeneficioReadModel;
 import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -25,12 +27,15 @@ class BeneficioServiceCqrsApplicationTests {
     @Autowired
     private BeneficioReadRepository readRepository;
 
+    @Autowired
+    private ProjectionPipeline projectionPipeline;
+
     @Test
     void contextLoads() {
     }
 
     @Test
-    void asignarBeneficio_deberiaCrearBeneficioYActualizarReadModel() {
+    void asignarBeneficio_deberiaCrearBeneficioYActualizarReadModel() throws InterruptedException {
         // Given
         AsignarBeneficioCommand command = AsignarBeneficioCommand.builder()
             .afiliadoId("afiliado-001")
@@ -48,7 +53,8 @@ class BeneficioServiceCqrsApplicationTests {
         assertTrue(result.isSuccess());
         assertNotNull(result.getId());
 
-        // Verificar que el read model se actualizó
+        // Verificar que el read model se actualizó (la proyeccion es asincrona)
+        assertTrue(projectionPipeline.awaitIdle(Duration.ofSeconds(5)));
         Optional<BeneficioReadModel> readModel = readRepository.findById(result.getId());
         assertTrue(readModel.isPresent());
         assertEquals("ACTIVO", readModel.get().getEstado());
@@ -0,0 +1,111 @@
+package com.mutualidad.beneficio.benchmark;
+
+import com.mutualidad.beneficio.BeneficioServiceCqrsApplication;
+import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.AsignarBeneficiosLoteCommand;
+import com.mutualidad.beneficio.command.api.TipoBeneficio;
+import com.mutualidad.beneficio.command.handler.AsignarBeneficioHandler;
+import com.mutualidad.beneficio.command.handler.AsignarBeneficiosLoteHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendimiento de asignacion de {@value #COMANDOS} beneficios con la aplicacion completa sobre H2:
+ * un comando por transaccion frente al endpoint de lote (una transaccion e inserts JDBC en lote).
+ * Cada invocacion usa afiliados nuevos; el resultado es tiempo por comando, su inversa es
+ * comandos/s.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.beneficio.benchmark.AsignarBeneficiosThroughputBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AsignarBeneficiosThroughputBenchmark {
+
+    private static final int COMANDOS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private AsignarBeneficioHandler asignarHandler;
+    private AsignarBeneficiosLoteHandler loteHandler;
+    private List<AsignarBeneficioCommand> comandos;
+
+    @Setup(Level.Trial)
+    public void arrancar() {
+        context = new SpringApplicationBuilder(BeneficioServiceCqrsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.jpa.show-sql=false", "logging.level.com.mutualidad=WARN",
+                "logging.level.root=WARN")
+            .run();
+        asignarHandler = context.getBean(AsignarBeneficioHandler.class);
+        loteHandler = context.getBean(AsignarBeneficiosLoteHandler.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepararComandos() {
+        String prefijo = UUID.randomUUID().toString();
+        comandos = new ArrayList<>(COMANDOS);
+        for (int i = 0; i < COMANDOS; i++) {
+            comandos.add(AsignarBeneficioCommand.builder()
+                .afiliadoId(prefijo + "-" + i)
+                .tipoBeneficio(TipoBeneficio.SALUD)
+                .fechaInicio(LocalDate.now())
+                .monto(new BigDecimal("500.00"))
+                .solicitadoPor("benchmark")
+                .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void parar() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMANDOS)
+    public void unaTransaccionPorComando(Blackhole bh) {
+        for (AsignarBeneficioCommand comando : comandos) {
+            bh.consume(asignarHandler.handle(comando));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMANDOS)
+    public void lote(Blackhole bh) {
+        bh.consume(loteHandler.handle(AsignarBeneficiosLoteCommand.builder().comandos(comandos).build()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AsignarBeneficiosThroughputBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
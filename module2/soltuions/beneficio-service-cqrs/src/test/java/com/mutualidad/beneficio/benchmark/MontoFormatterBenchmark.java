@@ -0,0 +1,83 @@
+package com.mutualidad.beneficio.benchmark;
+
+import com.mutualidad.beneficio.query.format.MontoFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formateo de importes es-ES: un {@link NumberFormat} nuevo por llamada (como hacian la
+ * proyeccion y el handler de resumen), un {@link NumberFormat} por hilo y {@link MontoFormatter}.
+ * Se ejecuta con el profiler de GC para ver los bytes asignados por operacion
+ * ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.beneficio.benchmark.MontoFormatterBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MontoFormatterBenchmark {
+
+    private static final Locale ES_ES = new Locale("es", "ES");
+    private static final ThreadLocal<NumberFormat> POR_HILO =
+        ThreadLocal.withInitial(() -> NumberFormat.getCurrencyInstance(ES_ES));
+
+    private final MontoFormatter montoFormatter = new MontoFormatter();
+    private BigDecimal[] montos;
+    private int index;
+
+    @Setup
+    public void setup() {
+        montos = new BigDecimal[1024];
+        for (int i = 0; i < montos.length; i++) {
+            montos[i] = BigDecimal.valueOf(i * 7919L + 12, 2);
+        }
+    }
+
+    private BigDecimal siguiente() {
+        index = (index + 1) & (montos.length - 1);
+        return montos[index];
+    }
+
+    @Benchmark
+    public String numberFormatPorLlamada() {
+        return NumberFormat.getCurrencyInstance(ES_ES).format(siguiente());
+    }
+
+    @Benchmark
+    public String numberFormatPorHilo() {
+        return POR_HILO.get().format(siguiente());
+    }
+
+    @Benchmark
+    public String montoFormatter() {
+        return montoFormatter.formatear(siguiente());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MontoFormatterBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
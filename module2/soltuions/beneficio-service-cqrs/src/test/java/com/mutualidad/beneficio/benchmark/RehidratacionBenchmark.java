@@ -0,0 +1,110 @@
+package com.mutualidad.beneficio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.command.domain.BeneficioAggregate;
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.BeneficioModificadoEvent;
+import com.mutualidad.beneficio.infrastructure.eventstore.BeneficioEventCodec;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rehidratacion de un beneficio con un stream de {@code eventos} eventos (una asignacion y
+ * el resto modificaciones): desde el primer evento frente a desde la ultima snapshot, tomada
+ * cada {@code snapshotCada} eventos como hace {@code JpaEventStore} (con los tamaños elegidos
+ * quedan 10 eventos tras la snapshot, el caso medio). Las filas ya estan en
+ * memoria como payload JSON, asi que se mide la deserializacion y la aplicacion de eventos,
+ * que es lo que crece con el stream; la lectura de la tabla crece en la misma proporcion.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.beneficio.benchmark.RehidratacionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RehidratacionBenchmark {
+
+    @Param({"110", "1010", "10010"})
+    private int eventos;
+
+    @Param({"20"})
+    private int snapshotCada;
+
+    private BeneficioEventCodec codec;
+    private String[] tipos;
+    private String[] payloads;
+    private String snapshot;
+    private int secuenciaSnapshot;
+
+    @Setup
+    public void setup() {
+        codec = new BeneficioEventCodec(new ObjectMapper().findAndRegisterModules(), new BeneficioEntityMapper());
+        tipos = new String[eventos];
+        payloads = new String[eventos];
+
+        String id = "beneficio-bench";
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        List<BeneficioEvent> stream = new ArrayList<>(eventos);
+        stream.add(new BeneficioAsignadoEvent(id, "afiliado-bench", "SALUD", "ACTIVO", inicio, null,
+            new BigDecimal("500.00"), "Cobertura basica", "admin", inicio));
+        for (int i = 1; i < eventos; i++) {
+            stream.add(new BeneficioModificadoEvent(id, "afiliado-bench", BigDecimal.valueOf(50000 + i, 2),
+                inicio.plusDays(365 + i), "Revision " + i, "Ajuste", "admin"));
+        }
+        for (int i = 0; i < eventos; i++) {
+            tipos[i] = stream.get(i).getTipoEvento();
+            payloads[i] = codec.serializar(stream.get(i));
+        }
+
+        secuenciaSnapshot = (eventos / snapshotCada) * snapshotCada;
+        snapshot = codec.serializarSnapshot(BeneficioAggregate.rehidratar(null, stream.subList(0, secuenciaSnapshot)));
+    }
+
+    @Benchmark
+    public Beneficio sinSnapshot() {
+        return BeneficioAggregate.rehidratar(null, leer(0));
+    }
+
+    @Benchmark
+    public Beneficio conSnapshot() {
+        return BeneficioAggregate.rehidratar(codec.deserializarSnapshot(snapshot), leer(secuenciaSnapshot));
+    }
+
+    private List<BeneficioEvent> leer(int despuesDeSecuencia) {
+        List<BeneficioEvent> stream = new ArrayList<>(eventos - despuesDeSecuencia);
+        for (int i = despuesDeSecuencia; i < eventos; i++) {
+            stream.add(codec.deserializar(tipos[i], payloads[i]));
+        }
+        return stream;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RehidratacionBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,169 @@
+package com.mutualidad.beneficio.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta de resumen por afiliado sobre H2 con {@code beneficios} filas en beneficios_read:
+ * las cuatro consultas agregadas anteriores frente a la lectura por clave primaria de
+ * resumen_beneficios_read, y el coste de reconstruir la tabla de resumenes completa.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.beneficio.benchmark.ResumenBeneficiosBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumenBeneficiosBenchmark {
+
+    private static final String[] ESTADOS = {"ACTIVO", "ACTIVO", "ACTIVO", "SUSPENDIDO", "REVOCADO"};
+
+    private static final String RECONSTRUIR = "INSERT INTO resumen_beneficios_read (afiliado_id, total_beneficios, "
+        + "beneficios_activos, beneficios_suspendidos, beneficios_revocados, monto_total_activo) "
+        + "SELECT afiliado_id, "
+        + "SUM(CASE WHEN estado IN ('ACTIVO', 'SUSPENDIDO', 'REVOCADO') THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'ACTIVO' THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'SUSPENDIDO' THEN 1 ELSE 0 END), "
+        + "SUM(CASE WHEN estado = 'REVOCADO' THEN 1 ELSE 0 END), "
+        + "COALESCE(SUM(CASE WHEN estado = 'ACTIVO' THEN monto ELSE 0 END), 0) "
+        + "FROM beneficios_read GROUP BY afiliado_id";
+
+    @Param({"1000000"})
+    private int beneficios;
+
+    @Param({"5"})
+    private int beneficiosPorAfiliado;
+
+    private Connection connection;
+    private PreparedStatement countPorEstado;
+    private PreparedStatement sumaActivos;
+    private PreparedStatement resumenPorId;
+    private int afiliados;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:resumen-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        afiliados = beneficios / beneficiosPorAfiliado;
+        try (Statement st = connection.createStatement()) {
+            // Mismo esquema que genera Hibernate para BeneficioReadModel y ResumenBeneficiosReadModel
+            st.execute("CREATE TABLE beneficios_read (id VARCHAR(255) PRIMARY KEY, afiliado_id VARCHAR(255) NOT NULL, "
+                + "tipo_beneficio VARCHAR(255) NOT NULL, estado VARCHAR(255) NOT NULL, "
+                + "fecha_inicio DATE NOT NULL, monto NUMERIC(10, 2))");
+            st.execute("CREATE TABLE resumen_beneficios_read (afiliado_id VARCHAR(255) PRIMARY KEY, "
+                + "total_beneficios INT NOT NULL, beneficios_activos INT NOT NULL, "
+                + "beneficios_suspendidos INT NOT NULL, beneficios_revocados INT NOT NULL, "
+                + "monto_total_activo NUMERIC(14, 2) NOT NULL)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO beneficios_read VALUES (?, ?, 'SALUD', ?, CURRENT_DATE, ?)")) {
+            for (int i = 0; i < beneficios; i++) {
+                insert.setString(1, "beneficio-" + i);
+                insert.setString(2, "afiliado-" + (i % afiliados));
+                insert.setString(3, ESTADOS[i % ESTADOS.length]);
+                insert.setBigDecimal(4, BigDecimal.valueOf(100 + i % 900));
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        reconstruir();
+
+        countPorEstado = connection.prepareStatement(
+            "SELECT COUNT(*) FROM beneficios_read WHERE afiliado_id = ? AND estado = ?");
+        sumaActivos = connection.prepareStatement(
+            "SELECT COALESCE(SUM(monto), 0) FROM beneficios_read WHERE afiliado_id = ? AND estado = 'ACTIVO'");
+        resumenPorId = connection.prepareStatement(
+            "SELECT * FROM resumen_beneficios_read WHERE afiliado_id = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void consultasAgregadas(Blackhole bh) throws SQLException {
+        String afiliadoId = afiliadoAleatorio();
+        for (String estado : new String[]{"ACTIVO", "SUSPENDIDO", "REVOCADO"}) {
+            countPorEstado.setString(1, afiliadoId);
+            countPorEstado.setString(2, estado);
+            try (ResultSet rs = countPorEstado.executeQuery()) {
+                rs.next();
+                bh.consume(rs.getLong(1));
+            }
+        }
+        sumaActivos.setString(1, afiliadoId);
+        try (ResultSet rs = sumaActivos.executeQuery()) {
+            rs.next();
+            bh.consume(rs.getBigDecimal(1));
+        }
+    }
+
+    @Benchmark
+    public void resumenMaterializado(Blackhole bh) throws SQLException {
+        resumenPorId.setString(1, afiliadoAleatorio());
+        try (ResultSet rs = resumenPorId.executeQuery()) {
+            rs.next();
+            bh.consume(rs.getInt("total_beneficios"));
+            bh.consume(rs.getBigDecimal("monto_total_activo"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int reconstruir() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DELETE FROM resumen_beneficios_read");
+            return st.executeUpdate(RECONSTRUIR);
+        }
+    }
+
+    private String afiliadoAleatorio() {
+        return "afiliado-" + ThreadLocalRandom.current().nextInt(afiliados);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ResumenBeneficiosBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,149 @@
+package com.mutualidad.beneficio.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vigencia de beneficios sobre H2 con {@code beneficios} filas en beneficios_read.
+ * <p>
+ * {@code reescrituraDiaria} mide lo que costaria mantener esta_vigente y dias_restantes
+ * guardados (recalcular todas las filas una vez al dia); {@code vigentesAlConsultar} mide la
+ * consulta de beneficios vigentes de un afiliado calculando la vigencia con la fecha del dia,
+ * que es como se resuelve ahora.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.beneficio.benchmark.VigenciaBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class VigenciaBenchmark {
+
+    @Param({"5000000"})
+    private int beneficios;
+
+    @Param({"5"})
+    private int beneficiosPorAfiliado;
+
+    private Connection connection;
+    private PreparedStatement vigentes;
+    private int afiliados;
+    private LocalDate hoy;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:vigencia-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        afiliados = beneficios / beneficiosPorAfiliado;
+        hoy = LocalDate.now();
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE beneficios_read (id VARCHAR(255) PRIMARY KEY, afiliado_id VARCHAR(255) NOT NULL, "
+                + "estado VARCHAR(255) NOT NULL, fecha_inicio DATE NOT NULL, fecha_fin DATE, monto NUMERIC(10, 2), "
+                + "esta_vigente BOOLEAN, dias_restantes INT)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO beneficios_read (id, afiliado_id, estado, fecha_inicio, fecha_fin, monto) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < beneficios; i++) {
+                insert.setString(1, "beneficio-" + i);
+                insert.setString(2, "afiliado-" + (i % afiliados));
+                insert.setString(3, i % 10 == 0 ? "REVOCADO" : "ACTIVO");
+                insert.setDate(4, Date.valueOf(hoy.minusDays(i % 720)));
+                // Un tercio sin fecha de fin; el resto vence repartido en los proximos dos anos
+                insert.setDate(5, i % 3 == 0 ? null : Date.valueOf(hoy.plusDays(i % 730 - 365)));
+                insert.setBigDecimal(6, BigDecimal.valueOf(100 + i % 900));
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE INDEX idx_beneficios_read_afiliado_estado_fecha "
+                + "ON beneficios_read (afiliado_id, estado, fecha_inicio)");
+        }
+        vigentes = connection.prepareStatement("SELECT id, fecha_fin FROM beneficios_read "
+            + "WHERE afiliado_id = ? AND estado = 'ACTIVO' AND fecha_inicio <= ? "
+            + "AND (fecha_fin IS NULL OR fecha_fin >= ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void vigentesAlConsultar(Blackhole bh) throws SQLException {
+        vigentes.setString(1, "afiliado-" + ThreadLocalRandom.current().nextInt(afiliados));
+        vigentes.setDate(2, Date.valueOf(hoy));
+        vigentes.setDate(3, Date.valueOf(hoy));
+        try (ResultSet rs = vigentes.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getString(1));
+                bh.consume(rs.getDate(2));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int reescrituraDiaria() throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement("UPDATE beneficios_read SET "
+                + "esta_vigente = (estado = 'ACTIVO' AND fecha_inicio <= ? AND (fecha_fin IS NULL OR fecha_fin >= ?)), "
+                + "dias_restantes = CASE WHEN fecha_fin >= ? AND estado <> 'REVOCADO' "
+                + "THEN DATEDIFF('DAY', ?, fecha_fin) END")) {
+            Date fecha = Date.valueOf(hoy);
+            update.setDate(1, fecha);
+            update.setDate(2, fecha);
+            update.setDate(3, fecha);
+            update.setDate(4, fecha);
+            return update.executeUpdate();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(VigenciaBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
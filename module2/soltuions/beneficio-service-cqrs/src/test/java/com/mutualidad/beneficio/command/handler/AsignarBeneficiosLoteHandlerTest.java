@@ -0,0 +1,109 @@
+package com.mutualidad.beneficio.command.handler;
+
+import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.AsignarBeneficiosLoteCommand;
+import com.mutualidad.beneficio.command.api.CommandResult;
+import com.mutualidad.beneficio.command.api.TipoBeneficio;
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.command.repository.BeneficioWriteRepository;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioEntity;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AsignarBeneficiosLoteHandlerTest {
+
+    @Autowired
+    private AsignarBeneficiosLoteHandler loteHandler;
+
+    @Autowired
+    private AsignarBeneficioHandler asignarHandler;
+
+    @Autowired
+    private BeneficioWriteRepository writeRepository;
+
+    @Autowired
+    private BeneficioJpaRepository jpaRepository;
+
+    @Test
+    void asignarLote_deberiaRechazarDuplicadosDelLoteYExistentes() {
+        // Given - un beneficio activo previo
+        assertTrue(asignarHandler.handle(comando("afiliado-lote-1", TipoBeneficio.FORMACION)).isSuccess());
+
+        AsignarBeneficiosLoteCommand lote = AsignarBeneficiosLoteCommand.builder()
+            .comandos(List.of(
+                comando("afiliado-lote-1", TipoBeneficio.SALUD),
+                comando("afiliado-lote-2", TipoBeneficio.SALUD),
+                comando("afiliado-lote-1", TipoBeneficio.SALUD),
+                comando("afiliado-lote-1", TipoBeneficio.FORMACION)))
+            .build();
+
+        // When
+        List<CommandResult> resultados = loteHandler.handle(lote);
+
+        // Then
+        assertEquals(4, resultados.size());
+        assertTrue(resultados.get(0).isSuccess());
+        assertTrue(resultados.get(1).isSuccess());
+        assertFalse(resultados.get(2).isSuccess());
+        assertFalse(resultados.get(3).isSuccess());
+        assertEquals(1, writeRepository.findActivosByAfiliadoAndTipo("afiliado-lote-1", TipoBeneficio.SALUD).size());
+    }
+
+    @Test
+    void restriccionUnica_deberiaImpedirDosActivosDelMismoTipo() {
+        jpaRepository.saveAndFlush(entidad("afiliado-unico"));
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> jpaRepository.saveAndFlush(entidad("afiliado-unico")));
+    }
+
+    @Test
+    void guardarVersionObsoleta_deberiaFallarPorBloqueoOptimista() {
+        // Given - dos lecturas del mismo beneficio
+        String id = asignarHandler.handle(comando("afiliado-version", TipoBeneficio.SALUD)).getId();
+        Beneficio primera = writeRepository.findById(id).orElseThrow();
+        Beneficio segunda = writeRepository.findById(id).orElseThrow();
+
+        // When - la primera se guarda y sube la version
+        primera.actualizarMonto(new BigDecimal("600.00"));
+        writeRepository.save(primera);
+
+        // Then
+        segunda.actualizarMonto(new BigDecimal("700.00"));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> writeRepository.save(segunda));
+    }
+
+    private AsignarBeneficioCommand comando(String afiliadoId, TipoBeneficio tipo) {
+        return AsignarBeneficioCommand.builder()
+            .afiliadoId(afiliadoId)
+            .tipoBeneficio(tipo)
+            .fechaInicio(LocalDate.now().plusDays(1))
+            .monto(new BigDecimal("500.00"))
+            .solicitadoPor("admin")
+            .build();
+    }
+
+    private BeneficioEntity entidad(String afiliadoId) {
+        return BeneficioEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .afiliadoId(afiliadoId)
+            .tipoBeneficio("SALUD")
+            .estado("ACTIVO")
+            .fechaInicio(LocalDate.now())
+            .solicitadoPor("admin")
+            .fechaCreacion(LocalDate.now())
+            .build();
+    }
+}
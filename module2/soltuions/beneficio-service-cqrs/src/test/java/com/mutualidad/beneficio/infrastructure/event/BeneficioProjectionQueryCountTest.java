@@ -0,0 +1,128 @@
+package com.mutualidad.beneficio.infrastructure.event;
+
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.BeneficioModificadoEvent;
+import com.mutualidad.beneficio.infrastructure.persistence.BeneficioEntity;
+import com.mutualidad.beneficio.event.BeneficioRevocadoEvent;
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.model.ResumenBeneficiosReadModel;
+import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
+import com.mutualidad.beneficio.query.repository.ResumenBeneficiosReadRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba que la proyeccion no consulta el lado de escritura: con eventos que llevan
+ * el estado completo, un micro-lote cuesta una consulta y un insert en lote por tabla
+ * del lado de lectura (beneficios y resumenes).
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:projectionquerycount",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BeneficioProjectionQueryCountTest {
+
+    private static final int EVENTOS = 20;
+
+    @Autowired
+    private BeneficioProjection projection;
+
+    @Autowired
+    private ProjectionPipeline projectionPipeline;
+
+    @Autowired
+    private BeneficioReadRepository readRepository;
+
+    @Autowired
+    private ResumenBeneficiosProjection resumenProjection;
+
+    @Autowired
+    private ResumenBeneficiosReadRepository resumenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(projectionPipeline.awaitIdle(Duration.ofSeconds(5)));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void proyectarLote_noDeberiaLeerElLadoDeEscritura() {
+        // Given - eventos de beneficios que no existen en la tabla de escritura
+        List<BeneficioEvent> eventos = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < EVENTOS; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            eventos.add(new BeneficioAsignadoEvent(id, "afiliado-qc-" + i, "SALUD", "ACTIVO",
+                LocalDate.now(), null, new BigDecimal("100.00"), "Cobertura", "admin", LocalDate.now()));
+        }
+        eventos.add(new BeneficioModificadoEvent(ids.get(0), "afiliado-qc-0", new BigDecimal("250.00"),
+            LocalDate.now().plusMonths(6), "Cobertura ampliada", "Revision anual", "admin"));
+
+        // When
+        projection.project(eventos);
+
+        // Then - ninguna carga de BeneficioEntity: consulta + insert en lote para beneficios y resumenes
+        // (antes: una lectura de BeneficioEntity por evento, EVENTOS + 1 sentencias adicionales)
+        assertEquals(0, statistics.getEntityStatistics(BeneficioEntity.class.getName()).getLoadCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(EVENTOS * 2, statistics.getEntityInsertCount());
+
+        BeneficioReadModel modificado = readRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals(0, new BigDecimal("250.00").compareTo(modificado.getMonto()));
+        assertEquals("Cobertura ampliada", modificado.getDescripcion());
+        assertTrue(modificado.isEstaVigente());
+    }
+
+    @Test
+    void resumenIncremental_deberiaCoincidirConReconstruccion() {
+        // Given - dos beneficios de un afiliado, uno modificado y otro revocado en lotes distintos
+        String afiliadoId = "afiliado-resumen-" + UUID.randomUUID();
+        String salud = UUID.randomUUID().toString();
+        String formacion = UUID.randomUUID().toString();
+        projection.project(List.of(
+            new BeneficioAsignadoEvent(salud, afiliadoId, "SALUD", "ACTIVO", LocalDate.now(), null,
+                new BigDecimal("100.00"), null, "admin", LocalDate.now()),
+            new BeneficioAsignadoEvent(formacion, afiliadoId, "FORMACION", "ACTIVO", LocalDate.now(), null,
+                new BigDecimal("40.00"), null, "admin", LocalDate.now())));
+        projection.project(List.of(
+            new BeneficioModificadoEvent(salud, afiliadoId, new BigDecimal("150.00"), null, null, "Ajuste", "admin"),
+            new BeneficioRevocadoEvent(formacion, afiliadoId, "Baja", LocalDate.now(), "admin")));
+
+        // When
+        ResumenBeneficiosReadModel incremental = resumenRepository.findById(afiliadoId).orElseThrow();
+        resumenProjection.reconstruir();
+        ResumenBeneficiosReadModel reconstruido = resumenRepository.findById(afiliadoId).orElseThrow();
+
+        // Then
+        assertEquals(2, incremental.getTotalBeneficios());
+        assertEquals(1, incremental.getBeneficiosActivos());
+        assertEquals(1, incremental.getBeneficiosRevocados());
+        assertEquals(0, new BigDecimal("150.00").compareTo(incremental.getMontoTotalActivo()));
+        assertEquals(incremental.getTotalBeneficios(), reconstruido.getTotalBeneficios());
+        assertEquals(incremental.getBeneficiosActivos(), reconstruido.getBeneficiosActivos());
+        assertEquals(incremental.getBeneficiosRevocados(), reconstruido.getBeneficiosRevocados());
+        assertEquals(0, incremental.getMontoTotalActivo().compareTo(reconstruido.getMontoTotalActivo()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.mutualidad.beneficio.infrastructure.eventstore;
+
+import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.ModificarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.RevocarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.TipoBeneficio;
+import com.mutualidad.beneficio.command.domain.Beneficio;
+import com.mutualidad.beneficio.command.domain.EstadoBeneficio;
+import com.mutualidad.beneficio.command.handler.AsignarBeneficioHandler;
+import com.mutualidad.beneficio.command.handler.ModificarBeneficioHandler;
+import com.mutualidad.beneficio.command.handler.RevocarBeneficioHandler;
+import com.mutualidad.beneficio.command.repository.BeneficioWriteRepository;
+import com.mutualidad.beneficio.event.BeneficioAsignadoEvent;
+import com.mutualidad.beneficio.event.BeneficioEvent;
+import com.mutualidad.beneficio.event.EventStore;
+import com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline;
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:eventstoretest",
+    "beneficio.eventstore.snapshot-cada=2"
+})
+class JpaEventStoreTest {
+
+    @Autowired
+    private AsignarBeneficioHandler asignarHandler;
+
+    @Autowired
+    private ModificarBeneficioHandler modificarHandler;
+
+    @Autowired
+    private RevocarBeneficioHandler revocarHandler;
+
+    @Autowired
+    private BeneficioWriteRepository writeRepository;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private BeneficioRehydrator rehydrator;
+
+    @Autowired
+    private BeneficioSnapshotJpaRepository snapshotRepository;
+
+    @Autowired
+    private BeneficioReadRepository readRepository;
+
+    @Autowired
+    private ProjectionPipeline projectionPipeline;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rehidratar_deberiaCoincidirConElLadoDeEscrituraYAlimentarLaProyeccion() throws InterruptedException {
+        // Given - asignacion, modificacion y revocacion del mismo beneficio
+        String id = asignarHandler.handle(AsignarBeneficioCommand.builder()
+            .afiliadoId("afiliado-es")
+            .tipoBeneficio(TipoBeneficio.SALUD)
+            .fechaInicio(LocalDate.now())
+            .monto(new BigDecimal("500.00"))
+            .descripcion("Cobertura basica")
+            .solicitadoPor("admin")
+            .build()).getId();
+        modificarHandler.handle(ModificarBeneficioCommand.builder()
+            .beneficioId(id)
+            .nuevoMonto(new BigDecimal("750.00"))
+            .nuevaDescripcion("Cobertura ampliada")
+            .motivo("Revision anual")
+            .modificadoPor("admin")
+            .build());
+        revocarHandler.handle(RevocarBeneficioCommand.builder()
+            .beneficioId(id)
+            .motivo("Baja voluntaria")
+            .revocadoPor("gestor")
+            .build());
+
+        // Then - stream ordenado y snapshot en la secuencia 2
+        List<BeneficioEvent> eventos = eventStore.cargar(id, 0);
+        assertEquals(List.of("BENEFICIO_ASIGNADO", "BENEFICIO_MODIFICADO", "BENEFICIO_REVOCADO"),
+            eventos.stream().map(BeneficioEvent::getTipoEvento).toList());
+        assertTrue(esperarSnapshot(id, Duration.ofSeconds(5)));
+        assertTrue(snapshotRepository.findById(id).orElseThrow().getSecuencia() >= 2);
+
+        Beneficio escrito = writeRepository.findById(id).orElseThrow();
+        Beneficio rehidratado = rehydrator.rehidratar(id).orElseThrow();
+        assertEquals(EstadoBeneficio.REVOCADO, rehidratado.getEstado());
+        assertEquals(escrito.getEstado(), rehidratado.getEstado());
+        assertEquals(0, escrito.getMonto().compareTo(rehidratado.getMonto()));
+        assertEquals(escrito.getDescripcion(), rehidratado.getDescripcion());
+        assertEquals(escrito.getFechaFin(), rehidratado.getFechaFin());
+        assertEquals(escrito.getMotivoRevocacion(), rehidratado.getMotivoRevocacion());
+        assertEquals(escrito.getRevocadoPor(), rehidratado.getRevocadoPor());
+
+        // La proyeccion avanza hasta la ultima posicion del store
+        assertTrue(projectionPipeline.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(eventStore.ultimaPosicion(), projectionPipeline.getCheckpoint());
+        BeneficioReadModel readModel = readRepository.findById(id).orElseThrow();
+        assertEquals("REVOCADO", readModel.getEstado());
+        assertEquals(0, new BigDecimal("750.00").compareTo(readModel.getMonto()));
+    }
+
+    // La snapshot se toma despues del commit en otro hilo
+    private boolean esperarSnapshot(String id, Duration timeout) throws InterruptedException {
+        long limite = System.nanoTime() + timeout.toNanos();
+        while (snapshotRepository.findById(id).isEmpty()) {
+            if (System.nanoTime() > limite) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @Test
+    void hayPendientesHasta_deberiaCubrirLaPosicionMientrasLaTransaccionSigueAbierta() {
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+
+        long posicion = transaccion.execute(status -> {
+            long asignada = eventStore.append(new BeneficioAsignadoEvent("es-pendiente", "afiliado-es",
+                TipoBeneficio.SALUD.name(), "ACTIVO", LocalDate.now(), null, new BigDecimal("10.00"),
+                "Pendiente", "admin", LocalDate.now()));
+            assertTrue(eventStore.hayPendientesHasta(asignada));
+            assertFalse(eventStore.hayPendientesHasta(asignada - 1));
+            status.setRollbackOnly();
+            return asignada;
+        });
+
+        // Deshecha: el hueco ya es definitivo
+        assertFalse(eventStore.hayPendientesHasta(posicion));
+    }
+}
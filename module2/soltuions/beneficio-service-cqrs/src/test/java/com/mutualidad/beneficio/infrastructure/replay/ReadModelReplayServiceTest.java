@@ -0,0 +1,118 @@
+package com.mutualidad.beneficio.infrastructure.replay;
+
+import com.mutualidad.beneficio.command.api.AsignarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.ModificarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.RevocarBeneficioCommand;
+import com.mutualidad.beneficio.command.api.TipoBeneficio;
+import com.mutualidad.beneficio.command.handler.AsignarBeneficioHandler;
+import com.mutualidad.beneficio.command.handler.ModificarBeneficioHandler;
+import com.mutualidad.beneficio.command.handler.RevocarBeneficioHandler;
+import com.mutualidad.beneficio.infrastructure.event.ProjectionPipeline;
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
+import com.mutualidad.beneficio.query.repository.ResumenBeneficiosReadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replaytest",
+    "beneficio.replay.chunk-size=10",
+    "beneficio.replay.paralelismo=3"
+})
+class ReadModelReplayServiceTest {
+
+    private static final int BENEFICIOS = 25;
+
+    @Autowired
+    private ReadModelReplayService replayService;
+
+    @Autowired
+    private AsignarBeneficioHandler asignarHandler;
+
+    @Autowired
+    private ModificarBeneficioHandler modificarHandler;
+
+    @Autowired
+    private RevocarBeneficioHandler revocarHandler;
+
+    @Autowired
+    private ProjectionPipeline projectionPipeline;
+
+    @Autowired
+    private BeneficioReadRepository readRepository;
+
+    @Autowired
+    private ResumenBeneficiosReadRepository resumenRepository;
+
+    @Autowired
+    private ReplayCheckpointRepository checkpointRepository;
+
+    @Test
+    void reconstruir_deberiaReproducirLaTablaProyectadaIncrementalmente() throws InterruptedException {
+        // Given - asignaciones, modificaciones y una revocacion con fecha efectiva anterior al fin
+        LocalDate hoy = LocalDate.now();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < BENEFICIOS; i++) {
+            ids.add(asignarHandler.handle(AsignarBeneficioCommand.builder()
+                .afiliadoId("afiliado-replay-" + (i % 7))
+                // Un solo beneficio ACTIVO por afiliado y tipo
+                .tipoBeneficio(TipoBeneficio.values()[i / 7])
+                .fechaInicio(hoy.minusDays(1))
+                .fechaFin(hoy.plusDays(30))
+                .monto(new BigDecimal("100.00"))
+                .solicitadoPor("admin")
+                .build()).getId());
+        }
+        for (int i = 0; i < BENEFICIOS; i += 3) {
+            modificarHandler.handle(ModificarBeneficioCommand.builder()
+                .beneficioId(ids.get(i))
+                .nuevoMonto(new BigDecimal("150.00"))
+                .nuevaFechaFin(hoy.plusDays(60))
+                .motivo("Revision")
+                .modificadoPor("admin")
+                .build());
+        }
+        revocarHandler.handle(RevocarBeneficioCommand.builder()
+            .beneficioId(ids.get(0))
+            .motivo("Baja")
+            .fechaEfectiva(hoy.plusDays(10))
+            .revocadoPor("gestor")
+            .build());
+        assertTrue(projectionPipeline.awaitIdle(Duration.ofSeconds(5)));
+        List<BeneficioReadModel> incremental = readRepository.findAll(Sort.by("id"));
+
+        // When
+        ReplayResult result = replayService.reconstruir(false);
+
+        // Then - mismas filas, columna a columna
+        assertEquals(incremental, readRepository.findAll(Sort.by("id")));
+        assertEquals(incremental.size(), result.getFilas());
+        assertEquals(0, result.getFallidos());
+        assertFalse(checkpointRepository.existsById(ReadModelReplayService.CHECKPOINT));
+
+        BeneficioReadModel revocado = readRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals("REVOCADO", revocado.getEstado());
+        assertEquals(hoy.plusDays(10), revocado.getFechaFin());
+        assertNull(revocado.getDiasRestantes());
+        assertTrue(readRepository.findById(ids.get(1)).orElseThrow().isEstaVigente());
+        assertEquals(4, resumenRepository.findById("afiliado-replay-1").orElseThrow().getBeneficiosActivos());
+    }
+
+    @Test
+    void reanudarSinCheckpoint_deberiaEmpezarDeCero() {
+        ReplayResult result = replayService.reconstruir(true);
+
+        assertFalse(result.isReanudado());
+        assertEquals(readRepository.count(), result.getFilas());
+    }
+}
@@ -0,0 +1,44 @@
+package com.mutualidad.beneficio.query.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MontoFormatterTest {
+
+    private final MontoFormatter formatter = new MontoFormatter();
+    private final NumberFormat referencia = NumberFormat.getCurrencyInstance(new Locale("es", "ES"));
+
+    @Test
+    void formatear_deberiaCoincidirConNumberFormat() {
+        String[] valores = {
+            "0", "0.00", "0.05", "0.5", "1", "12.3", "999.99", "1000", "1234.56", "12345.67",
+            "999999.99", "1000000", "123456789.01", "-0.50", "-1234.56", "-1000000.00",
+            // redondeo HALF_EVEN
+            "0.125", "0.135", "2.345", "2.355", "1234.5650", "99.995"
+        };
+        for (String valor : valores) {
+            BigDecimal monto = new BigDecimal(valor);
+            assertEquals(referencia.format(monto), formatter.formatear(monto), valor);
+        }
+    }
+
+    @Test
+    void formatear_valoresAleatorios_deberiaCoincidirConNumberFormat() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal monto = BigDecimal.valueOf(random.nextLong() % 10_000_000_000L, 2);
+            assertEquals(referencia.format(monto), formatter.formatear(monto), monto.toPlainString());
+        }
+    }
+
+    @Test
+    void formatear_null_deberiaDevolverNull() {
+        assertNull(formatter.formatear(null));
+    }
+}
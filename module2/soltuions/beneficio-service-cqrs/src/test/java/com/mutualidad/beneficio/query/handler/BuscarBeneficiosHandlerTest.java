@@ -0,0 +1,136 @@
+package com.mutualidad.beneficio.query.handler;
+
+import com.mutualidad.beneficio.query.api.BuscarBeneficiosQuery;
+import com.mutualidad.beneficio.query.model.BeneficioReadModel;
+import com.mutualidad.beneficio.query.model.PaginaBeneficios;
+import com.mutualidad.beneficio.query.repository.BeneficioReadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BuscarBeneficiosHandlerTest {
+
+    @Autowired
+    private BuscarBeneficiosHandler handler;
+
+    @Autowired
+    private BeneficioReadRepository readRepository;
+
+    @Test
+    void buscarPorCursor_deberiaRecorrerTodasLasFilasSinRepetir() {
+        // Given - cinco beneficios, tres con la misma fecha de inicio
+        String afiliadoId = "afiliado-cursor";
+        LocalDate hoy = LocalDate.now();
+        List<BeneficioReadModel> readModels = List.of(
+            readModel("cursor-1", afiliadoId, hoy),
+            readModel("cursor-2", afiliadoId, hoy),
+            readModel("cursor-3", afiliadoId, hoy),
+            readModel("cursor-4", afiliadoId, hoy.minusDays(1)),
+            readModel("cursor-5", afiliadoId, hoy.plusDays(1)));
+        readRepository.saveAll(readModels);
+
+        // When - paginas de dos elementos
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaBeneficios pagina = handler.handleCursor(BuscarBeneficiosQuery.builder()
+                .afiliadoId(afiliadoId)
+                .cursor(cursor)
+                .size(2)
+                .build());
+            pagina.getContenido().forEach(rm -> ids.add(rm.getId()));
+            assertNull(pagina.getTotal());
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        // Then - orden (fechaInicio, id) descendente
+        assertEquals(3, paginas);
+        assertEquals(List.of("cursor-5", "cursor-3", "cursor-2", "cursor-1", "cursor-4"), ids);
+    }
+
+    @Test
+    void buscarPorCursor_deberiaIncluirFechaInicioMaxima() {
+        String afiliadoId = "afiliado-cursor-max";
+        readRepository.saveAll(List.of(
+            readModel("cursor-max", afiliadoId, LocalDate.of(9999, 12, 31)),
+            readModel("cursor-hoy", afiliadoId, LocalDate.now())));
+
+        PaginaBeneficios pagina = handler.handleCursor(BuscarBeneficiosQuery.builder()
+            .afiliadoId(afiliadoId)
+            .size(10)
+            .build());
+
+        assertEquals(2, pagina.getContenido().size());
+        assertEquals("cursor-max", pagina.getContenido().get(0).getId());
+    }
+
+    @Test
+    void buscarPorCursor_conTotal_deberiaContar() {
+        readRepository.save(readModel("cursor-total", "afiliado-cursor-total", LocalDate.now()));
+
+        PaginaBeneficios pagina = handler.handleCursor(BuscarBeneficiosQuery.builder()
+            .afiliadoId("afiliado-cursor-total")
+            .estado("ACTIVO")
+            .incluirTotal(true)
+            .build());
+
+        assertEquals(1L, pagina.getTotal());
+        assertFalse(pagina.isHayMas());
+    }
+
+    @Test
+    void buscarPorCursor_conCursorInvalido_deberiaFallar() {
+        BuscarBeneficiosQuery query = BuscarBeneficiosQuery.builder()
+            .afiliadoId("afiliado-cursor")
+            .cursor("no-es-un-cursor")
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> handler.handleCursor(query));
+    }
+
+    @Test
+    void buscarVigentes_deberiaFiltrarPorLaFechaDeHoy() {
+        String afiliadoId = "afiliado-vigentes";
+        LocalDate hoy = LocalDate.now();
+        BeneficioReadModel caducado = readModel("vigente-caducado", afiliadoId, hoy.minusDays(10));
+        caducado.setFechaFin(hoy.minusDays(1));
+        readRepository.saveAll(List.of(
+            readModel("vigente-hoy", afiliadoId, hoy),
+            readModel("vigente-futuro", afiliadoId, hoy.plusDays(1)),
+            caducado));
+
+        List<BeneficioReadModel> vigentes = handler.handleVigentes(afiliadoId);
+
+        assertEquals(List.of("vigente-hoy"), vigentes.stream().map(BeneficioReadModel::getId).toList());
+    }
+
+    @Test
+    void buscarPorCursor_conTamanoMayorQueElMaximo_deberiaFallar() {
+        BuscarBeneficiosQuery query = BuscarBeneficiosQuery.builder()
+            .afiliadoId("afiliado-cursor")
+            .size(Integer.MAX_VALUE)
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> handler.handleCursor(query));
+    }
+
+    private BeneficioReadModel readModel(String id, String afiliadoId, LocalDate fechaInicio) {
+        return BeneficioReadModel.builder()
+            .id(id)
+            .afiliadoId(afiliadoId)
+            .tipoBeneficio("SALUD")
+            .estado("ACTIVO")
+            .fechaInicio(fechaInicio)
+            .nuevo(true)
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.mutualidad.beneficio.query.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeneficioReadModelTest {
+
+    private static final LocalDate HOY = LocalDate.of(2025, 6, 15);
+
+    @Test
+    void vigencia_deberiaDependerDeLaFechaDeConsulta() {
+        BeneficioReadModel readModel = BeneficioReadModel.builder()
+            .estado("ACTIVO")
+            .fechaInicio(HOY.minusDays(10))
+            .fechaFin(HOY.plusDays(5))
+            .build();
+
+        assertTrue(readModel.estaVigenteEn(HOY));
+        assertEquals(5, readModel.diasRestantesEn(HOY));
+        assertTrue(readModel.estaVigenteEn(HOY.plusDays(5)));
+        assertEquals(0, readModel.diasRestantesEn(HOY.plusDays(5)));
+        assertFalse(readModel.estaVigenteEn(HOY.plusDays(6)));
+        assertNull(readModel.diasRestantesEn(HOY.plusDays(6)));
+        assertFalse(readModel.estaVigenteEn(HOY.minusDays(11)));
+    }
+
+    @Test
+    void vigencia_deBeneficioRevocado_deberiaSerFalsaYSinDiasRestantes() {
+        BeneficioReadModel readModel = BeneficioReadModel.builder()
+            .estado("REVOCADO")
+            .fechaInicio(HOY.minusDays(10))
+            .fechaFin(HOY.plusDays(5))
+            .build();
+
+        assertFalse(readModel.estaVigenteEn(HOY));
+        assertNull(readModel.diasRestantesEn(HOY));
+    }
+
+    @Test
+    void vigencia_sinFechaFin_deberiaSerIndefinida() {
+        BeneficioReadModel readModel = BeneficioReadModel.builder()
+            .estado("ACTIVO")
+            .fechaInicio(HOY)
+            .build();
+
+        assertTrue(readModel.estaVigenteEn(HOY.plusYears(10)));
+        assertNull(readModel.diasRestantesEn(HOY));
+    }
+}
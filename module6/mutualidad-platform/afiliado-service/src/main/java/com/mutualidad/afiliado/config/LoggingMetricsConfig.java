@@ -0,0 +1,17 @@
+package com.mutualidad.afiliado.config;
+
+import com.mutualidad.afiliado.logging.CountingAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingMetricsConfig {
+
+    public LoggingMetricsConfig(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("logback.events.dropped", CountingAsyncAppender.class,
+                        appender -> CountingAsyncAppender.descartados())
+                .description("Eventos de log descartados por los appenders asincronos")
+                .register(meterRegistry);
+    }
+}
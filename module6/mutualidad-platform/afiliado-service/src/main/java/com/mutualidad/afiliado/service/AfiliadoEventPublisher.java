@@ -1,15 +1,14 @@
 package com.mutualidad.afiliado.service;
 
 import com.mutualidad.afiliado.event.AfiliadoEvent;
+import com.mutualidad.afiliado.tracing.KafkaHeadersPropagation;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
-import io.opentelemetry.context.propagation.TextMapSetter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.Headers;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -17,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -38,13 +36,6 @@ public class AfiliadoEventPublisher {
         this.tracer = openTelemetry.getTracer("afiliado-service");
     }
 
-    private static final TextMapSetter<Headers> KAFKA_SETTER = (headers, key, value) -> {
-        if (headers != null && key != null && value != null) {
-            headers.remove(key);
-            headers.add(key, value.getBytes(StandardCharsets.UTF_8));
-        }
-    };
-
     public void publishAfiliadoCreated(String dni, String nombre, String apellidos, 
                                         String email, String empresaId) {
         String afiliadoId = UUID.randomUUID().toString();
@@ -101,7 +92,7 @@ public class AfiliadoEventPublisher {
             // Inyectar contexto de trazas en los headers de Kafka
             openTelemetry.getPropagators()
                     .getTextMapPropagator()
-                    .inject(Context.current().with(span), record.headers(), KAFKA_SETTER);
+                    .inject(Context.current().with(span), record.headers(), KafkaHeadersPropagation.SETTER);
 
             log.info("Publicando evento con TraceId: {}", span.getSpanContext().getTraceId());
 
@@ -0,0 +1,39 @@
+package com.mutualidad.afiliado.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Convierte los DROP del sampler delegado en RECORD_ONLY: el span se graba pero no se
+ * exporta salvo que {@link ErrorOrSlowSpanProcessor} lo rescate al terminar por error o lentitud.
+ */
+public class ErrorBiasedSampler implements Sampler {
+
+    private final Sampler delegate;
+
+    public ErrorBiasedSampler(Sampler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name,
+                                       SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+        SamplingResult result = delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        if (result.getDecision() == SamplingDecision.DROP) {
+            return SamplingResult.recordOnly();
+        }
+        return result;
+    }
+
+    @Override
+    public String getDescription() {
+        return "ErrorBiasedSampler{" + delegate.getDescription() + "}";
+    }
+}
@@ -0,0 +1,157 @@
+package com.mutualidad.afiliado.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.DelegatingSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.time.Duration;
+
+/**
+ * Muestreo "de cola" local: los spans muestreados se exportan siempre y los no muestreados
+ * (grabados como RECORD_ONLY por {@link ErrorBiasedSampler}) solo si han terminado con error
+ * o han durado mas que el umbral.
+ * <p>
+ * Los spans rescatados se marcan como muestreados para que el BatchSpanProcessor delegado los exporte.
+ * Los spans hijos en otros servicios siguen la decision original, por lo que la traza puede quedar parcial.
+ */
+public class ErrorOrSlowSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final LongCounter rescatados;
+
+    public ErrorOrSlowSpanProcessor(SpanProcessor delegate, Duration slowThreshold, LongCounter rescatados) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.rescatados = rescatados;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled()) {
+            delegate.onEnd(span);
+            return;
+        }
+        if (span.getLatencyNanos() >= slowThresholdNanos) {
+            rescatados.add(1);
+            delegate.onEnd(new SampledSpan(span, span.toSpanData()));
+            return;
+        }
+        SpanData data = span.toSpanData();
+        if (data.getStatus().getStatusCode() == StatusCode.ERROR) {
+            rescatados.add(1);
+            delegate.onEnd(new SampledSpan(span, data));
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * Vista de un span terminado con el flag de muestreo activado.
+     */
+    private static final class SampledSpan implements ReadableSpan {
+
+        private final ReadableSpan span;
+        private final SpanContext spanContext;
+        private final SpanData spanData;
+
+        private SampledSpan(ReadableSpan span, SpanData data) {
+            this.span = span;
+            SpanContext original = span.getSpanContext();
+            this.spanContext = SpanContext.create(original.getTraceId(), original.getSpanId(),
+                    TraceFlags.getSampled(), original.getTraceState());
+            this.spanData = new DelegatingSpanData(data) {
+                @Override
+                public SpanContext getSpanContext() {
+                    return spanContext;
+                }
+            };
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return spanContext;
+        }
+
+        @Override
+        public SpanContext getParentSpanContext() {
+            return span.getParentSpanContext();
+        }
+
+        @Override
+        public String getName() {
+            return span.getName();
+        }
+
+        @Override
+        public SpanData toSpanData() {
+            return spanData;
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("deprecation")
+        public io.opentelemetry.sdk.common.InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+            return span.getInstrumentationLibraryInfo();
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return span.getInstrumentationScopeInfo();
+        }
+
+        @Override
+        public boolean hasEnded() {
+            return span.hasEnded();
+        }
+
+        @Override
+        public long getLatencyNanos() {
+            return span.getLatencyNanos();
+        }
+
+        @Override
+        public SpanKind getKind() {
+            return span.getKind();
+        }
+
+        @Override
+        public <T> T getAttribute(AttributeKey<T> key) {
+            return span.getAttribute(key);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mutualidad.afiliado.tracing;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Getter/Setter de OpenTelemetry sobre cabeceras de Kafka.
+ * <p>
+ * El propagador W3C solo consulta {@code traceparent} y {@code tracestate}, asi que
+ * {@link #GETTER} resuelve cada clave con {@code lastHeader} y devuelve una lista fija
+ * de claves, sin recorrer ni decodificar el resto de cabeceras. Los valores W3C son ASCII,
+ * por lo que se (de)codifican con ISO-8859-1, que es una copia directa de bytes.
+ */
+public final class KafkaHeadersPropagation {
+
+    private static final Collection<String> TRACE_FIELDS = W3CTraceContextPropagator.getInstance().fields();
+
+    public static final TextMapGetter<Headers> GETTER = new TextMapGetter<Headers>() {
+        @Override
+        public Iterable<String> keys(Headers headers) {
+            return TRACE_FIELDS;
+        }
+
+        @Override
+        public String get(Headers headers, String key) {
+            if (headers == null) {
+                return null;
+            }
+            Header header = headers.lastHeader(key);
+            if (header == null || header.value() == null) {
+                return null;
+            }
+            return new String(header.value(), StandardCharsets.ISO_8859_1);
+        }
+    };
+
+    public static final TextMapSetter<Headers> SETTER = (headers, key, value) -> {
+        if (headers == null || key == null || value == null) {
+            return;
+        }
+        // Los ProducerRecord nuevos no traen cabeceras de trazas: solo se elimina si ya existe
+        if (headers.lastHeader(key) != null) {
+            headers.remove(key);
+        }
+        headers.add(key, value.getBytes(StandardCharsets.ISO_8859_1));
+    };
+
+    private KafkaHeadersPropagation() {
+    }
+}
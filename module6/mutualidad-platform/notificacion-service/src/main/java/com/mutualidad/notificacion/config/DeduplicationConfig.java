@@ -0,0 +1,43 @@
+package com.mutualidad.notificacion.config;
+
+import com.mutualidad.notificacion.dedup.DeduplicationStore;
+import com.mutualidad.notificacion.dedup.InMemoryDeduplicationStore;
+import com.mutualidad.notificacion.dedup.JdbcDeduplicationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class DeduplicationConfig {
+
+    @Value("${app.deduplication.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${app.deduplication.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.deduplication.jdbc.intervalo-purga:PT1M}")
+    private Duration intervaloPurga;
+
+    /**
+     * Almacen en memoria, activo salvo que {@code app.deduplication.store} elija otra implementacion.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.deduplication.store", havingValue = "memoria", matchIfMissing = true)
+    public DeduplicationStore deduplicationStore() {
+        return new InMemoryDeduplicationStore(maxEntries, ttl);
+    }
+
+    /**
+     * Almacen persistente en la base de datos de {@code spring.datasource}, con {@code app.deduplication.store=jdbc}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.deduplication.store", havingValue = "jdbc")
+    public DeduplicationStore jdbcDeduplicationStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcDeduplicationStore(jdbcTemplate, ttl, intervaloPurga);
+    }
+}
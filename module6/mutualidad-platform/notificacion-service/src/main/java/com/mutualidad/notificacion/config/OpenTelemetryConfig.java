@@ -5,16 +5,23 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.metrics.OtlpGrpcMetricExporter;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.semconv.ResourceAttributes;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class OpenTelemetryConfig {
 
@@ -24,6 +31,25 @@ public class OpenTelemetryConfig {
     @Value("${otel.exporter.otlp.endpoint:http://localhost:4317}")
     private String otlpEndpoint;
 
+    // Fraccion de trazas raiz muestreadas; los spans hijos siguen la decision del padre
+    @Value("${otel.traces.sampler.arg:1.0}")
+    private double samplerRatio;
+
+    @Value("${otel.bsp.max.queue.size:2048}")
+    private int bspMaxQueueSize;
+
+    @Value("${otel.bsp.max.export.batch.size:512}")
+    private int bspMaxExportBatchSize;
+
+    @Value("${otel.bsp.schedule.delay:5000}")
+    private long bspScheduleDelayMs;
+
+    @Value("${otel.bsp.export.timeout:30000}")
+    private long bspExportTimeoutMs;
+
+    @Value("${otel.metric.export.interval:60000}")
+    private long metricExportIntervalMs;
+
     @Bean
     public OpenTelemetry openTelemetry() {
         Resource resource = Resource.getDefault()
@@ -36,21 +62,50 @@ public class OpenTelemetryConfig {
             .setEndpoint(otlpEndpoint)
             .build();
 
+        SdkMeterProvider meterProvider = SdkMeterProvider.builder()
+            .setResource(resource)
+            .registerMetricReader(PeriodicMetricReader.builder(
+                    OtlpGrpcMetricExporter.builder().setEndpoint(otlpEndpoint).build())
+                .setInterval(Duration.ofMillis(metricExportIntervalMs))
+                .build())
+            .build();
+
         SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
-            .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+            .setSampler(sampler())
+            .addSpanProcessor(spanProcessor(spanExporter, meterProvider))
             .setResource(resource)
             .build();
 
         OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
             .setTracerProvider(tracerProvider)
+            .setMeterProvider(meterProvider)
             .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
             .buildAndRegisterGlobal();
 
-        Runtime.getRuntime().addShutdownHook(new Thread(tracerProvider::close));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            tracerProvider.close();
+            meterProvider.close();
+        }));
 
         return openTelemetry;
     }
 
+    // Servicio intermedio: sigue la decision de muestreo de afiliado-service, que es donde
+    // empiezan las trazas y donde se rescatan los spans con error o lentos
+    private Sampler sampler() {
+        return Sampler.parentBased(Sampler.traceIdRatioBased(samplerRatio));
+    }
+
+    private SpanProcessor spanProcessor(OtlpGrpcSpanExporter spanExporter, SdkMeterProvider meterProvider) {
+        return BatchSpanProcessor.builder(spanExporter)
+            .setMaxQueueSize(bspMaxQueueSize)
+            .setMaxExportBatchSize(bspMaxExportBatchSize)
+            .setScheduleDelay(Duration.ofMillis(bspScheduleDelayMs))
+            .setExporterTimeout(Duration.ofMillis(bspExportTimeoutMs))
+            .setMeterProvider(meterProvider)
+            .build();
+    }
+
     @Bean
     public Tracer tracer(OpenTelemetry openTelemetry) {
         return openTelemetry.getTracer(serviceName, "1.0.0");
@@ -0,0 +1,25 @@
+package com.mutualidad.notificacion.dedup;
+
+/**
+ * Almacen de identificadores de eventos ya procesados.
+ * Se elige con {@code app.deduplication.store}: {@code memoria} (por defecto,
+ * {@link InMemoryDeduplicationStore}) o {@code jdbc} ({@link JdbcDeduplicationStore}, persistente
+ * y compartido entre instancias).
+ */
+public interface DeduplicationStore {
+
+    /**
+     * Registra el evento si no estaba registrado.
+     *
+     * @return true si el evento es nuevo, false si ya se habia procesado
+     */
+    boolean registrar(String eventId);
+
+    /**
+     * Elimina el registro de un evento (p.ej. cuando su procesamiento ha fallado
+     * y debe poder reintentarse).
+     */
+    void eliminar(String eventId);
+
+    int size();
+}
@@ -0,0 +1,58 @@
+package com.mutualidad.notificacion.dedup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumidor idempotente: descarta los eventos cuyo eventId ya se ha procesado
+ * (reintentos del productor, rebalanceos del grupo de consumidores).
+ */
+@Slf4j
+@Component
+public class EventDeduplicator {
+
+    private final DeduplicationStore store;
+    private final Counter duplicados;
+    private final Counter nuevos;
+
+    public EventDeduplicator(DeduplicationStore store, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.duplicados = Counter.builder("notificacion.eventos.duplicados")
+                .description("Eventos descartados por estar ya procesados")
+                .register(meterRegistry);
+        this.nuevos = Counter.builder("notificacion.eventos.nuevos")
+                .description("Eventos aceptados por el filtro de duplicados")
+                .register(meterRegistry);
+        Gauge.builder("notificacion.dedup.entradas", store, DeduplicationStore::size)
+                .description("Identificadores de eventos recordados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true si el evento debe procesarse, false si es un duplicado
+     */
+    public boolean esNuevo(String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        if (store.registrar(eventId)) {
+            nuevos.increment();
+            return true;
+        }
+        duplicados.increment();
+        log.info("Evento duplicado descartado: eventId={}", eventId);
+        return false;
+    }
+
+    /**
+     * Libera el eventId para que un reintento del mismo evento no se descarte.
+     */
+    public void liberar(String eventId) {
+        if (eventId != null) {
+            store.eliminar(eventId);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mutualidad.notificacion.dedup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conjunto FIFO acotado con ventana temporal.
+ * <p>
+ * Guarda como maximo {@code maxEntries} identificadores y los olvida pasado el {@code ttl};
+ * al superar el limite se descarta el registrado hace mas tiempo, aunque se haya vuelto a ver
+ * despues. El orden de insercion es a proposito: coincide con el de las marcas de tiempo, asi
+ * que los expirados se purgan desde la cabeza sin recorrer el mapa completo.
+ */
+public class InMemoryDeduplicationStore implements DeduplicationStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Long> entries;
+
+    public InMemoryDeduplicationStore(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    InMemoryDeduplicationStore(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Long>(Math.min(maxEntries, 1024), 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > InMemoryDeduplicationStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean registrar(String eventId) {
+        long now = clock.millis();
+        purgarExpirados(now);
+        Long registrado = entries.get(eventId);
+        if (registrado != null) {
+            return false;
+        }
+        entries.put(eventId, now);
+        return true;
+    }
+
+    @Override
+    public synchronized void eliminar(String eventId) {
+        entries.remove(eventId);
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void purgarExpirados(long now) {
+        Iterator<Long> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next() < ttlMillis) {
+                return;
+            }
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.mutualidad.notificacion.dedup;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Almacen persistente sobre la tabla {@code evento_procesado}, con el {@code eventId} como clave
+ * primaria: sobrevive a reinicios y se comparte entre instancias que usen la misma base de datos.
+ * <p>
+ * La unicidad la resuelve la clave primaria (un insert duplicado significa evento ya procesado).
+ * Los registros caducan pasado el {@code ttl}; se purgan como mucho una vez por
+ * {@code intervaloPurga}, desde el propio {@link #registrar(String)}. No hay limite de entradas:
+ * lo acota el {@code ttl}.
+ */
+public class JdbcDeduplicationStore implements DeduplicationStore {
+
+    private static final String TABLA = "evento_procesado";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final long intervaloPurgaMillis;
+    private final Clock clock;
+    private final AtomicLong ultimaPurga = new AtomicLong();
+
+    public JdbcDeduplicationStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration intervaloPurga) {
+        this(jdbcTemplate, ttl, intervaloPurga, Clock.systemUTC());
+    }
+
+    JdbcDeduplicationStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration intervaloPurga, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.intervaloPurgaMillis = intervaloPurga.toMillis();
+        this.clock = clock;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLA + " ("
+            + "event_id VARCHAR(255) NOT NULL PRIMARY KEY, "
+            + "registrado_en BIGINT NOT NULL)");
+    }
+
+    @Override
+    public boolean registrar(String eventId) {
+        long now = clock.millis();
+        purgarSiToca(now);
+        // Un registro caducado del mismo evento que aun no se haya purgado no cuenta
+        jdbcTemplate.update("DELETE FROM " + TABLA + " WHERE event_id = ? AND registrado_en <= ?",
+            eventId, now - ttlMillis);
+        try {
+            jdbcTemplate.update("INSERT INTO " + TABLA + " (event_id, registrado_en) VALUES (?, ?)", eventId, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void eliminar(String eventId) {
+        jdbcTemplate.update("DELETE FROM " + TABLA + " WHERE event_id = ?", eventId);
+    }
+
+    @Override
+    public int size() {
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLA, Integer.class);
+        return total != null ? total : 0;
+    }
+
+    private void purgarSiToca(long now) {
+        long anterior = ultimaPurga.get();
+        if (now - anterior < intervaloPurgaMillis || !ultimaPurga.compareAndSet(anterior, now)) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM " + TABLA + " WHERE registrado_en <= ?", now - ttlMillis);
+    }
+}
@@ -0,0 +1,41 @@
+package com.mutualidad.notificacion.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender que cuenta los eventos de log descartados.
+ * <p>
+ * Se descartan los TRACE/DEBUG/INFO cuando la cola supera el {@code discardingThreshold}
+ * y, con {@code neverBlock=true}, cualquier evento que llega con la cola llena.
+ * Logback se inicializa antes que Spring, por eso el contador es estatico y
+ * {@code LoggingMetricsConfig} lo publica en Micrometer.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DESCARTADOS = new LongAdder();
+
+    public static long descartados() {
+        return DESCARTADOS.sum();
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // Solo se invoca cuando la cola ya esta por encima del umbral de descarte
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DESCARTADOS.increment();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0 && !super.isDiscardable(event)) {
+            DESCARTADOS.increment();
+        }
+        super.append(event);
+    }
+}
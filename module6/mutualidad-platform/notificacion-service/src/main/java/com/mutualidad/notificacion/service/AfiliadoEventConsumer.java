@@ -1,48 +1,32 @@
 package com.mutualidad.notificacion.service;
 
+import com.mutualidad.notificacion.dedup.EventDeduplicator;
 import com.mutualidad.notificacion.event.AfiliadoEvent;
+import com.mutualidad.notificacion.tracing.KafkaHeadersPropagation;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
-import io.opentelemetry.context.propagation.TextMapGetter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-
 @Slf4j
 @Service
 public class AfiliadoEventConsumer {
 
     private final OpenTelemetry openTelemetry;
     private final Tracer tracer;
+    private final EventDeduplicator deduplicator;
 
-    public AfiliadoEventConsumer(OpenTelemetry openTelemetry) {
+    public AfiliadoEventConsumer(OpenTelemetry openTelemetry, EventDeduplicator deduplicator) {
         this.openTelemetry = openTelemetry;
         this.tracer = openTelemetry.getTracer("notificacion-service");
+        this.deduplicator = deduplicator;
     }
 
-    private static final TextMapGetter<Headers> KAFKA_GETTER = new TextMapGetter<Headers>() {
-        @Override
-        public Iterable<String> keys(Headers headers) {
-            return () -> java.util.stream.StreamSupport.stream(headers.spliterator(), false)
-                    .map(Header::key)
-                    .iterator();
-        }
-
-        @Override
-        public String get(Headers headers, String key) {
-            Header header = headers.lastHeader(key);
-            return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
-        }
-    };
-
     @KafkaListener(
         topics = "${app.kafka.topic.afiliado-eventos}",
         groupId = "${spring.kafka.consumer.group-id}"
@@ -51,7 +35,7 @@ public class AfiliadoEventConsumer {
         // Extraer contexto de trazas desde los headers de Kafka
         Context extractedContext = openTelemetry.getPropagators()
                 .getTextMapPropagator()
-                .extract(Context.current(), record.headers(), KAFKA_GETTER);
+                .extract(Context.current(), record.headers(), KafkaHeadersPropagation.GETTER);
 
         // Crear span hijo con el contexto extraído
         Span span = tracer.spanBuilder("notificacion-service.process")
@@ -74,8 +58,19 @@ public class AfiliadoEventConsumer {
             log.info("Payload: {}", event.getPayload());
             log.info("TraceId: {}", span.getSpanContext().getTraceId());
 
+            // Consumidor idempotente: no reenviar notificaciones de eventos ya procesados
+            if (!deduplicator.esNuevo(event.getEventId())) {
+                span.setAttribute("event.duplicate", true);
+                return;
+            }
+
             // Simular envio de notificacion
-            sendNotification(event, span);
+            try {
+                sendNotification(event, span);
+            } catch (RuntimeException e) {
+                deduplicator.liberar(event.getEventId());
+                throw e;
+            }
         } catch (Exception e) {
             span.recordException(e);
             throw e;
@@ -0,0 +1,172 @@
+package com.mutualidad.notificacion.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.mutualidad.notificacion.dedup.EventDeduplicator;
+import com.mutualidad.notificacion.dedup.InMemoryDeduplicationStore;
+import com.mutualidad.notificacion.event.AfiliadoEvent;
+import com.mutualidad.notificacion.logging.CountingAsyncAppender;
+import com.mutualidad.notificacion.service.AfiliadoEventConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput de {@link AfiliadoEventConsumer} segun la configuracion de logging:
+ * sin logs, appender JSON sincrono a fichero y el mismo appender detras de {@link CountingAsyncAppender}.
+ * Los eventos de log descartados en cada iteracion salen como contador auxiliar {@code descartados}.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.notificacion.benchmark.ConsumerLoggingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ConsumerLoggingBenchmark {
+
+    @Param({"off", "sync", "async"})
+    private String logging;
+
+    private final AtomicLong secuencia = new AtomicLong();
+    private AfiliadoEventConsumer consumer;
+    private Appender<ILoggingEvent> appender;
+    private File logFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+
+        if ("off".equals(logging)) {
+            root.setLevel(ch.qos.logback.classic.Level.OFF);
+        } else {
+            root.setLevel(ch.qos.logback.classic.Level.INFO);
+            logFile = File.createTempFile("consumer-logging-benchmark", ".json");
+
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.start();
+
+            FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+            fileAppender.setContext(context);
+            fileAppender.setFile(logFile.getAbsolutePath());
+            fileAppender.setEncoder(encoder);
+            fileAppender.start();
+            appender = fileAppender;
+
+            if ("async".equals(logging)) {
+                CountingAsyncAppender async = new CountingAsyncAppender();
+                async.setContext(context);
+                async.setQueueSize(8192);
+                async.setDiscardingThreshold(1638);
+                async.setNeverBlock(true);
+                async.addAppender(fileAppender);
+                async.start();
+                appender = async;
+            }
+            root.addAppender(appender);
+        }
+
+        consumer = new AfiliadoEventConsumer(OpenTelemetry.noop(), new EventDeduplicator(
+                new InMemoryDeduplicationStore(100_000, Duration.ofHours(1)), new SimpleMeterRegistry()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (appender != null) {
+            appender.stop();
+        }
+        if (logFile != null) {
+            logFile.delete();
+        }
+    }
+
+    /**
+     * El contador del appender es global, asi que solo el primer hilo lo informa para que JMH
+     * no lo sume una vez por hilo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LogsDescartados {
+
+        public long descartados;
+        private long inicio;
+        private boolean informa;
+
+        @Setup(Level.Iteration)
+        public void inicio(ThreadParams thread) {
+            informa = thread.getThreadIndex() == 0;
+            inicio = CountingAsyncAppender.descartados();
+            descartados = 0;
+        }
+
+        void actualizar() {
+            if (informa) {
+                descartados = CountingAsyncAppender.descartados() - inicio;
+            }
+        }
+    }
+
+    @Benchmark
+    public void handleAfiliadoEvent(LogsDescartados logs) {
+        long n = secuencia.incrementAndGet();
+        AfiliadoEvent event = AfiliadoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("AFILIADO_CREATED")
+                .timestamp(LocalDateTime.now())
+                .payload(AfiliadoEvent.AfiliadoPayload.builder()
+                        .afiliadoId("AFI-" + n)
+                        .dni("12345678Z")
+                        .nombre("Juan")
+                        .apellidos("Garcia")
+                        .email("juan@test.com")
+                        .empresaId("EMP001")
+                        .build())
+                .build();
+        consumer.handleAfiliadoEvent(new ConsumerRecord<>("afiliado-eventos", 0, n, event.getEventId(), event));
+        logs.actualizar();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConsumerLoggingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
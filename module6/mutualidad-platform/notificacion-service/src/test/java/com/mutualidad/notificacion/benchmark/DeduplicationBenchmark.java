@@ -0,0 +1,72 @@
+package com.mutualidad.notificacion.benchmark;
+
+import com.mutualidad.notificacion.dedup.InMemoryDeduplicationStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste por registro del filtro de duplicados.
+ * <p>
+ * Ejecucion: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.notificacion.benchmark.DeduplicationBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeduplicationBenchmark {
+
+    @Param({"10000", "100000"})
+    private int maxEntries;
+
+    private InMemoryDeduplicationStore store;
+    private String[] eventIds;
+    private int index;
+
+    @Setup
+    public void setup() {
+        store = new InMemoryDeduplicationStore(maxEntries, Duration.ofHours(24));
+        eventIds = new String[maxEntries * 2];
+        for (int i = 0; i < eventIds.length; i++) {
+            eventIds[i] = UUID.randomUUID().toString();
+        }
+        for (int i = 0; i < maxEntries; i++) {
+            store.registrar(eventIds[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean eventoNuevo() {
+        index = (index + 1) % eventIds.length;
+        return store.registrar(eventIds[index]);
+    }
+
+    @Benchmark
+    public boolean eventoDuplicado() {
+        return store.registrar(eventIds[maxEntries - 1]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DeduplicationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
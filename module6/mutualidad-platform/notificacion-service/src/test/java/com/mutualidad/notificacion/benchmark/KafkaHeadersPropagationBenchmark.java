@@ -0,0 +1,88 @@
+package com.mutualidad.notificacion.benchmark;
+
+import com.mutualidad.notificacion.tracing.KafkaHeadersPropagation;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Extraccion del contexto de trazas desde cabeceras de Kafka: getter anterior
+ * (keys() con StreamSupport, decodificacion UTF-8) frente a {@link KafkaHeadersPropagation}.
+ * <p>
+ * Ejecucion con perfil de asignaciones: {@code -prof gc} en los argumentos de JMH, o
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mutualidad.notificacion.benchmark.KafkaHeadersPropagationBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaHeadersPropagationBenchmark {
+
+    private static final TextMapGetter<Headers> LEGACY_GETTER = new TextMapGetter<Headers>() {
+        @Override
+        public Iterable<String> keys(Headers headers) {
+            return () -> StreamSupport.stream(headers.spliterator(), false)
+                    .map(Header::key)
+                    .iterator();
+        }
+
+        @Override
+        public String get(Headers headers, String key) {
+            Header header = headers.lastHeader(key);
+            return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+        }
+    };
+
+    private final TextMapPropagator propagator = W3CTraceContextPropagator.getInstance();
+    private Headers headers;
+
+    @Setup
+    public void setup() {
+        headers = new RecordHeaders();
+        headers.add("__TypeId__", "com.mutualidad.afiliado.event.AfiliadoEvent".getBytes(StandardCharsets.UTF_8));
+        headers.add("traceparent",
+                "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01".getBytes(StandardCharsets.UTF_8));
+        headers.add("tracestate", "congo=t61rcWkgMzE".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Context legacyGetter() {
+        return propagator.extract(Context.root(), headers, LEGACY_GETTER);
+    }
+
+    @Benchmark
+    public Context kafkaHeadersPropagation() {
+        return propagator.extract(Context.root(), headers, KafkaHeadersPropagation.GETTER);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KafkaHeadersPropagationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
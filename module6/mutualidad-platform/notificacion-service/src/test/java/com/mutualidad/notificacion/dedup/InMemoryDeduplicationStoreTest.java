@@ -0,0 +1,81 @@
+package com.mutualidad.notificacion.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryDeduplicationStoreTest {
+
+    @Test
+    void descartaEventosYaRegistrados() {
+        InMemoryDeduplicationStore store = new InMemoryDeduplicationStore(10, Duration.ofHours(1));
+
+        assertTrue(store.registrar("evt-1"));
+        assertFalse(store.registrar("evt-1"));
+        assertTrue(store.registrar("evt-2"));
+    }
+
+    @Test
+    void olvidaLosEventosMasAntiguosAlSuperarElLimite() {
+        InMemoryDeduplicationStore store = new InMemoryDeduplicationStore(2, Duration.ofHours(1));
+
+        store.registrar("evt-1");
+        store.registrar("evt-2");
+        store.registrar("evt-3");
+
+        assertEquals(2, store.size());
+        assertTrue(store.registrar("evt-1"));
+    }
+
+    @Test
+    void olvidaLosEventosFueraDeLaVentanaTemporal() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-10T10:00:00Z"));
+        InMemoryDeduplicationStore store = new InMemoryDeduplicationStore(10, Duration.ofMinutes(5), clock);
+
+        store.registrar("evt-1");
+        clock.instant = clock.instant.plus(Duration.ofMinutes(6));
+
+        assertTrue(store.registrar("evt-1"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void eliminarPermiteReprocesar() {
+        InMemoryDeduplicationStore store = new InMemoryDeduplicationStore(10, Duration.ofHours(1));
+
+        store.registrar("evt-1");
+        store.eliminar("evt-1");
+
+        assertTrue(store.registrar("evt-1"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
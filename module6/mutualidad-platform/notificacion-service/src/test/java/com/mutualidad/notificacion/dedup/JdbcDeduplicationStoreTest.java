@@ -0,0 +1,93 @@
+package com.mutualidad.notificacion.dedup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcDeduplicationStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:dedup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    @Test
+    void descartaEventosYaRegistrados() {
+        JdbcDeduplicationStore store = new JdbcDeduplicationStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        assertTrue(store.registrar("evt-1"));
+        assertFalse(store.registrar("evt-1"));
+        assertTrue(store.registrar("evt-2"));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void conservaLosRegistrosEntreInstancias() {
+        new JdbcDeduplicationStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1)).registrar("evt-1");
+
+        JdbcDeduplicationStore reiniciado = new JdbcDeduplicationStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        assertFalse(reiniciado.registrar("evt-1"));
+    }
+
+    @Test
+    void olvidaLosEventosFueraDeLaVentanaTemporal() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-10T10:00:00Z"));
+        JdbcDeduplicationStore store = new JdbcDeduplicationStore(jdbcTemplate, Duration.ofMinutes(5), Duration.ofMinutes(1), clock);
+
+        store.registrar("evt-1");
+        store.registrar("evt-2");
+        clock.instant = clock.instant.plus(Duration.ofMinutes(6));
+
+        assertTrue(store.registrar("evt-1"));
+        // La purga se lleva tambien evt-2
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void eliminarPermiteReprocesar() {
+        JdbcDeduplicationStore store = new JdbcDeduplicationStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        store.registrar("evt-1");
+        store.eliminar("evt-1");
+
+        assertTrue(store.registrar("evt-1"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
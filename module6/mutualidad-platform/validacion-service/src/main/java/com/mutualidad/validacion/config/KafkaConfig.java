@@ -4,6 +4,7 @@ import com.mutualidad.validacion.event.AfiliadoEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,22 +21,27 @@ public class KafkaConfig {
     @Value("${app.kafka.topic.afiliado-eventos-dlt}")
     private String dltTopic;
 
+    // El DLT replica el numero de particiones del topic origen para conservar la particion
+    @Value("${app.kafka.topic.afiliado-eventos-partitions:3}")
+    private int dltPartitions;
+
     @Bean
     public NewTopic dltTopic() {
         return TopicBuilder.name(dltTopic)
-                .partitions(1)
+                .partitions(dltPartitions)
                 .replicas(1)
                 .build();
     }
 
     @Bean
     public DefaultErrorHandler errorHandler(KafkaTemplate<String, AfiliadoEvent> kafkaTemplate) {
-        // Configura DLQ: envia mensajes fallidos al topic .dlt
+        // Configura DLQ: envia mensajes fallidos al topic .dlt en la misma particion de origen
+        // (la key se conserva en el registro publicado por el recoverer)
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
             (record, ex) -> {
-                log.error("Enviando mensaje fallido a DLT: key={}, error={}", 
-                    record.key(), ex.getMessage());
-                return new org.apache.kafka.common.TopicPartition(dltTopic, 0);
+                log.error("Enviando mensaje fallido a DLT: key={}, partition={}, error={}", 
+                    record.key(), record.partition(), ex.getMessage());
+                return new TopicPartition(dltTopic, record.partition() % dltPartitions);
             });
 
         // Reintentar 3 veces con intervalo de 1 segundo antes de enviar a DLT
@@ -0,0 +1,55 @@
+package com.mutualidad.validacion.controller;
+
+import com.mutualidad.validacion.replay.DltReplayRequest;
+import com.mutualidad.validacion.replay.DltReplayResult;
+import com.mutualidad.validacion.replay.DltReplayService;
+import com.mutualidad.validacion.replay.ReprocesamientoEnCursoException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/dlt")
+@RequiredArgsConstructor
+public class DltReplayController {
+
+    private final DltReplayService replayService;
+
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(
+            @RequestParam(required = false) String exceptionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant hasta,
+            @RequestParam(required = false) Integer maxRegistros,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+
+        DltReplayRequest request = DltReplayRequest.builder()
+                .exceptionType(exceptionType)
+                .desde(desde)
+                .hasta(hasta)
+                .maxRegistros(maxRegistros)
+                .dryRun(dryRun)
+                .build();
+
+        try {
+            DltReplayResult result = replayService.replay(request);
+            return ResponseEntity.ok(result);
+        } catch (ReprocesamientoEnCursoException e) {
+            log.warn("Reprocesamiento del DLT rechazado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "status", "CONFLICT",
+                "message", e.getMessage()
+            ));
+        }
+    }
+}
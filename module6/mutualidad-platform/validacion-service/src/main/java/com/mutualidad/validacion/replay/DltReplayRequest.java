@@ -0,0 +1,29 @@
+package com.mutualidad.validacion.replay;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Criterios de seleccion de los mensajes del DLT que se van a reprocesar.
+ * Los campos nulos no filtran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DltReplayRequest {
+    /** Nombre completo o simple de la excepcion (o de su causa) que envio el mensaje al DLT */
+    private String exceptionType;
+    /** Instante inicial (inclusivo) en el que el mensaje llego al DLT */
+    private Instant desde;
+    /** Instante final (exclusivo) en el que el mensaje llego al DLT */
+    private Instant hasta;
+    /** Maximo de mensajes a republicar */
+    private Integer maxRegistros;
+    /** Si es true solo cuenta los mensajes seleccionados sin republicarlos */
+    private boolean dryRun;
+}
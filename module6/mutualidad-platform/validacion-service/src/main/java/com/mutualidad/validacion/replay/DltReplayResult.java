@@ -0,0 +1,19 @@
+package com.mutualidad.validacion.replay;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DltReplayResult {
+    private long leidos;
+    private long seleccionados;
+    private long republicados;
+    private long fallidos;
+    private boolean dryRun;
+    private long duracionMs;
+}
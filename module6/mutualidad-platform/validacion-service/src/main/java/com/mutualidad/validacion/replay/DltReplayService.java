@@ -0,0 +1,281 @@
+package com.mutualidad.validacion.replay;
+
+import com.mutualidad.validacion.event.AfiliadoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Reprocesa mensajes del Dead Letter Topic republicandolos en el topic de origen.
+ * <p>
+ * Lee el DLT con un consumer propio (sin commit de offsets) desde el instante indicado
+ * hasta los offsets finales capturados al inicio, filtra por tipo de excepcion y rango
+ * temporal, y republica en lotes limitados a {@code max-records-per-second}.
+ * La key original se conserva, por lo que el mensaje vuelve a la misma particion.
+ */
+@Slf4j
+@Service
+public class DltReplayService {
+
+    static final String REPLAY_HEADER = "x-dlt-replay";
+
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final int MAX_EMPTY_POLLS = 5;
+
+    private final ConsumerFactory<String, AfiliadoEvent> consumerFactory;
+    private final KafkaTemplate<String, AfiliadoEvent> kafkaTemplate;
+    private final AtomicBoolean enCurso = new AtomicBoolean(false);
+
+    @Value("${app.kafka.topic.afiliado-eventos}")
+    private String sourceTopic;
+
+    @Value("${app.kafka.topic.afiliado-eventos-dlt}")
+    private String dltTopic;
+
+    @Value("${app.dlt.replay.group-id:validacion-dlt-replay}")
+    private String groupId;
+
+    @Value("${app.dlt.replay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.dlt.replay.max-records-per-second:200}")
+    private int maxRecordsPerSecond;
+
+    public DltReplayService(ConsumerFactory<String, AfiliadoEvent> consumerFactory,
+                            KafkaTemplate<String, AfiliadoEvent> kafkaTemplate) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    public DltReplayResult replay(DltReplayRequest request) {
+        if (!enCurso.compareAndSet(false, true)) {
+            throw new ReprocesamientoEnCursoException();
+        }
+        try {
+            return doReplay(request);
+        } finally {
+            enCurso.set(false);
+        }
+    }
+
+    private DltReplayResult doReplay(DltReplayRequest request) {
+        long inicio = System.currentTimeMillis();
+        long maxRegistros = request.getMaxRegistros() != null ? request.getMaxRegistros() : Long.MAX_VALUE;
+        long leidos = 0;
+        long seleccionados = 0;
+        long republicados = 0;
+        long fallidos = 0;
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+
+        try (Consumer<String, AfiliadoEvent> consumer =
+                     consumerFactory.createConsumer(groupId, null, "-replay", overrides)) {
+
+            List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .collect(Collectors.toList());
+            consumer.assign(partitions);
+
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seek(consumer, partitions, request);
+
+            log.info("Iniciando reprocesamiento del DLT: particiones={}, filtro={}", partitions.size(), request);
+
+            List<ProducerRecord<String, AfiliadoEvent>> lote = new ArrayList<>(batchSize);
+            int pollsVacios = 0;
+
+            while (seleccionados < maxRegistros && !alcanzado(consumer, endOffsets)) {
+                ConsumerRecords<String, AfiliadoEvent> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    if (++pollsVacios >= MAX_EMPTY_POLLS) {
+                        break;
+                    }
+                    continue;
+                }
+                pollsVacios = 0;
+
+                for (ConsumerRecord<String, AfiliadoEvent> record : records) {
+                    TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(tp) || seleccionados >= maxRegistros) {
+                        continue;
+                    }
+                    leidos++;
+                    if (!matches(record, request)) {
+                        continue;
+                    }
+                    seleccionados++;
+                    if (request.isDryRun()) {
+                        continue;
+                    }
+                    lote.add(toSourceRecord(record));
+                    if (lote.size() >= batchSize) {
+                        int enviados = sendBatch(lote);
+                        republicados += enviados;
+                        fallidos += lote.size() - enviados;
+                        lote.clear();
+                    }
+                }
+            }
+
+            if (!lote.isEmpty()) {
+                int enviados = sendBatch(lote);
+                republicados += enviados;
+                fallidos += lote.size() - enviados;
+            }
+        }
+
+        DltReplayResult result = DltReplayResult.builder()
+                .leidos(leidos)
+                .seleccionados(seleccionados)
+                .republicados(republicados)
+                .fallidos(fallidos)
+                .dryRun(request.isDryRun())
+                .duracionMs(System.currentTimeMillis() - inicio)
+                .build();
+        log.info("Reprocesamiento del DLT finalizado: {}", result);
+        return result;
+    }
+
+    private void seek(Consumer<String, AfiliadoEvent> consumer, List<TopicPartition> partitions,
+                      DltReplayRequest request) {
+        if (request.getDesde() == null) {
+            consumer.seekToBeginning(partitions);
+            return;
+        }
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(tp -> timestamps.put(tp, request.getDesde().toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(timestamps);
+        for (TopicPartition tp : partitions) {
+            OffsetAndTimestamp offset = offsets.get(tp);
+            if (offset != null) {
+                consumer.seek(tp, offset.offset());
+            } else {
+                consumer.seekToEnd(List.of(tp));
+            }
+        }
+    }
+
+    private boolean alcanzado(Consumer<String, AfiliadoEvent> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean matches(ConsumerRecord<String, AfiliadoEvent> record, DltReplayRequest request) {
+        if (request.getDesde() != null && record.timestamp() < request.getDesde().toEpochMilli()) {
+            return false;
+        }
+        if (request.getHasta() != null && record.timestamp() >= request.getHasta().toEpochMilli()) {
+            return false;
+        }
+        if (request.getExceptionType() == null || request.getExceptionType().isEmpty()) {
+            return true;
+        }
+        return matchesException(record.headers(), KafkaHeaders.DLT_EXCEPTION_FQCN, request.getExceptionType())
+                || matchesException(record.headers(), KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, request.getExceptionType());
+    }
+
+    private static boolean matchesException(Headers headers, String headerName, String exceptionType) {
+        Header header = headers.lastHeader(headerName);
+        if (header == null) {
+            return false;
+        }
+        String fqcn = new String(header.value(), StandardCharsets.UTF_8);
+        return fqcn.equals(exceptionType) || fqcn.endsWith("." + exceptionType);
+    }
+
+    static ProducerRecord<String, AfiliadoEvent> toSourceRecord(ConsumerRecord<String, AfiliadoEvent> record,
+                                                                String sourceTopic) {
+        // Se descartan las cabeceras del DLT y se conservan las de negocio (p.ej. traceparent)
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().equals(REPLAY_HEADER)) {
+                headers.add(header);
+            }
+        }
+        String origen = record.topic() + "-" + record.partition() + "@" + record.offset();
+        headers.add(REPLAY_HEADER, origen.getBytes(StandardCharsets.UTF_8));
+        return new ProducerRecord<>(sourceTopic, null, record.key(), record.value(), headers);
+    }
+
+    private ProducerRecord<String, AfiliadoEvent> toSourceRecord(ConsumerRecord<String, AfiliadoEvent> record) {
+        return toSourceRecord(record, sourceTopic);
+    }
+
+    private int sendBatch(List<ProducerRecord<String, AfiliadoEvent>> lote) {
+        long inicio = System.nanoTime();
+
+        List<ListenableFuture<SendResult<String, AfiliadoEvent>>> futures = new ArrayList<>(lote.size());
+        for (ProducerRecord<String, AfiliadoEvent> record : lote) {
+            futures.add(kafkaTemplate.send(record));
+        }
+        kafkaTemplate.flush();
+
+        int enviados = 0;
+        for (ListenableFuture<SendResult<String, AfiliadoEvent>> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                enviados++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reprocesamiento del DLT interrumpido", e);
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Error republicando mensaje del DLT: {}", e.getMessage());
+            }
+        }
+        log.debug("Lote del DLT republicado: enviados={}, fallidos={}", enviados, lote.size() - enviados);
+
+        throttle(lote.size(), inicio);
+        return enviados;
+    }
+
+    private void throttle(int registros, long inicioNanos) {
+        if (maxRecordsPerSecond <= 0) {
+            return;
+        }
+        long minimoMs = registros * 1000L / maxRecordsPerSecond;
+        long transcurridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicioNanos);
+        if (transcurridoMs < minimoMs) {
+            try {
+                Thread.sleep(minimoMs - transcurridoMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reprocesamiento del DLT interrumpido", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.mutualidad.validacion.replay;
+
+/**
+ * Se ha pedido un reprocesamiento del DLT mientras otro sigue en marcha.
+ */
+public class ReprocesamientoEnCursoException extends RuntimeException {
+
+    public ReprocesamientoEnCursoException() {
+        super("Ya hay un reprocesamiento del DLT en curso");
+    }
+}
@@ -1,22 +1,18 @@
 package com.mutualidad.validacion.service;
 
 import com.mutualidad.validacion.event.AfiliadoEvent;
+import com.mutualidad.validacion.tracing.KafkaHeadersPropagation;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
-import io.opentelemetry.context.propagation.TextMapGetter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-
 @Slf4j
 @Service
 public class AfiliadoValidationConsumer {
@@ -29,21 +25,6 @@ public class AfiliadoValidationConsumer {
         this.tracer = openTelemetry.getTracer("validacion-service");
     }
 
-    private static final TextMapGetter<Headers> KAFKA_GETTER = new TextMapGetter<Headers>() {
-        @Override
-        public Iterable<String> keys(Headers headers) {
-            return () -> java.util.stream.StreamSupport.stream(headers.spliterator(), false)
-                    .map(Header::key)
-                    .iterator();
-        }
-
-        @Override
-        public String get(Headers headers, String key) {
-            Header header = headers.lastHeader(key);
-            return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
-        }
-    };
-
     @KafkaListener(
         topics = "${app.kafka.topic.afiliado-eventos}",
         groupId = "${spring.kafka.consumer.group-id}"
@@ -52,7 +33,7 @@ public class AfiliadoValidationConsumer {
         // Extraer contexto de trazas desde los headers de Kafka
         Context extractedContext = openTelemetry.getPropagators()
                 .getTextMapPropagator()
-                .extract(Context.current(), record.headers(), KAFKA_GETTER);
+                .extract(Context.current(), record.headers(), KafkaHeadersPropagation.GETTER);
 
         // Crear span hijo con el contexto extraído
         Span span = tracer.spanBuilder("validacion-service.process")
@@ -119,7 +100,7 @@ public class AfiliadoValidationConsumer {
     public void handleDltEvent(ConsumerRecord<String, AfiliadoEvent> record) {
         Context extractedContext = openTelemetry.getPropagators()
                 .getTextMapPropagator()
-                .extract(Context.current(), record.headers(), KAFKA_GETTER);
+                .extract(Context.current(), record.headers(), KafkaHeadersPropagation.GETTER);
 
         Span span = tracer.spanBuilder("validacion-service.dlt.process")
                 .setParent(extractedContext)
@@ -0,0 +1,78 @@
+package com.mutualidad.validacion.replay;
+
+import com.mutualidad.validacion.event.AfiliadoEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DltReplayServiceTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00Z");
+
+    @Test
+    void filtraPorTipoDeExcepcionDeLaCausa() {
+        ConsumerRecord<String, AfiliadoEvent> record = dltRecord(T0, "java.lang.RuntimeException");
+
+        assertTrue(DltReplayService.matches(record, DltReplayRequest.builder().exceptionType("RuntimeException").build()));
+        assertTrue(DltReplayService.matches(record, DltReplayRequest.builder().exceptionType("java.lang.RuntimeException").build()));
+        assertFalse(DltReplayService.matches(record, DltReplayRequest.builder().exceptionType("IllegalArgumentException").build()));
+    }
+
+    @Test
+    void filtraPorRangoTemporal() {
+        ConsumerRecord<String, AfiliadoEvent> record = dltRecord(T0, "java.lang.RuntimeException");
+
+        assertTrue(DltReplayService.matches(record, DltReplayRequest.builder()
+                .desde(T0).hasta(T0.plusSeconds(60)).build()));
+        assertFalse(DltReplayService.matches(record, DltReplayRequest.builder()
+                .desde(T0.plusSeconds(1)).build()));
+        assertFalse(DltReplayService.matches(record, DltReplayRequest.builder()
+                .hasta(T0).build()));
+    }
+
+    @Test
+    void republicaConLaKeyOriginalYSinCabecerasDelDlt() {
+        ConsumerRecord<String, AfiliadoEvent> record = dltRecord(T0, "java.lang.RuntimeException");
+
+        ProducerRecord<String, AfiliadoEvent> replay = DltReplayService.toSourceRecord(record, "afiliado-eventos");
+
+        assertEquals("afiliado-eventos", replay.topic());
+        assertEquals("12345678A", replay.key());
+        assertNull(replay.partition());
+        assertNull(replay.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN));
+        assertNotNull(replay.headers().lastHeader("traceparent"));
+        assertEquals("afiliado-eventos.dlt-2@7", new String(
+                replay.headers().lastHeader(DltReplayService.REPLAY_HEADER).value(), StandardCharsets.UTF_8));
+    }
+
+    private ConsumerRecord<String, AfiliadoEvent> dltRecord(Instant timestamp, String causeFqcn) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+                "org.springframework.kafka.listener.ListenerExecutionFailedException".getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, causeFqcn.getBytes(StandardCharsets.UTF_8));
+        headers.add("traceparent",
+                "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01".getBytes(StandardCharsets.UTF_8));
+
+        AfiliadoEvent event = AfiliadoEvent.builder()
+                .eventId("evt-1")
+                .eventType("AFILIADO_CREATED")
+                .payload(AfiliadoEvent.AfiliadoPayload.builder().dni("FAIL0001").build())
+                .build();
+
+        return new ConsumerRecord<>("afiliado-eventos.dlt", 2, 7L, timestamp.toEpochMilli(),
+                TimestampType.CREATE_TIME, 0, 0, "12345678A", event, headers, Optional.empty());
+    }
+}